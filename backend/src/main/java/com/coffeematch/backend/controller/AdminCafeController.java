@@ -1,9 +1,17 @@
 package com.coffeematch.backend.controller;
 
 import com.coffeematch.backend.dto.CafeDto;
+import com.coffeematch.backend.dto.CrawlBatchResultDto;
 import com.coffeematch.backend.dto.CafeRequestDto;
 import com.coffeematch.backend.dto.CrawlCafeRequestDto;
+import com.coffeematch.backend.dto.CrawlIngestJobDto;
 import com.coffeematch.backend.service.CafeService;
+import com.coffeematch.backend.service.CrawlIngestJobService;
+import com.coffeematch.backend.service.CrawlIngestService;
+import com.coffeematch.backend.service.DataNormalizationService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +20,16 @@ import org.springframework.web.bind.annotation.*;
 public class AdminCafeController {
 
     private final CafeService cafeService;
+    private final CrawlIngestService crawlIngestService;
+    private final CrawlIngestJobService crawlIngestJobService;
+    private final DataNormalizationService dataNormalizationService;
 
-    public AdminCafeController(CafeService cafeService) {
+    public AdminCafeController(CafeService cafeService, CrawlIngestService crawlIngestService,
+            CrawlIngestJobService crawlIngestJobService, DataNormalizationService dataNormalizationService) {
         this.cafeService = cafeService;
+        this.crawlIngestService = crawlIngestService;
+        this.crawlIngestJobService = crawlIngestJobService;
+        this.dataNormalizationService = dataNormalizationService;
     }
 
     @PostMapping
@@ -33,24 +48,45 @@ public class AdminCafeController {
         return ResponseEntity.ok().build();
     }
 
+    // 중복 후보 조회: 좌표 50m + 가게명 유사도, 전화번호 일치, 가게명 + 정규화 주소 일치 (전체 카페를 스트리밍으로 비교)
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<java.util.List<CafeDto>> getDuplicates(@PathVariable Long id) {
+        return ResponseEntity.ok(dataNormalizationService.findDuplicatesOf(id));
+    }
+
     // Crawler-specific endpoints
     @PostMapping("/crawl")
     public ResponseEntity<CafeDto> createCafeFromCrawl(@RequestBody CrawlCafeRequestDto request) {
         return ResponseEntity.ok(cafeService.createCafeFromCrawl(request));
     }
 
+    // 비동기 적재: 작업을 등록하고 202 + 작업 id 반환, 진행 상황은 /api/admin/jobs/{id} (관리자 권한 필요)
     @PostMapping("/crawl/batch")
-    public ResponseEntity<java.util.List<CafeDto>> createCafesFromCrawlBatch(
+    public ResponseEntity<?> createCafesFromCrawlBatch(
             @RequestBody java.util.List<CrawlCafeRequestDto> requests) {
-        java.util.List<CafeDto> results = new java.util.ArrayList<>();
-        for (CrawlCafeRequestDto request : requests) {
-            try {
-                results.add(cafeService.createCafeFromCrawl(request));
-            } catch (Exception e) {
-                // Log error but continue processing other cafes
-                System.err.println("Failed to process cafe: " + request.getName() + " - " + e.getMessage());
-            }
+        try {
+            CrawlIngestJobDto job = crawlIngestJobService.submit(requests);
+            return ResponseEntity.accepted()
+                    .location(java.net.URI.create("/api/admin/jobs/" + job.getId()))
+                    .body(job);
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body("Crawl ingest queue is full, retry later");
         }
-        return ResponseEntity.ok(results);
+    }
+
+    // 대량 적재: 청크 단위 JDBC 배치 처리 후 항목별 결과 반환
+    @PostMapping("/crawl/bulk")
+    public ResponseEntity<CrawlBatchResultDto> createCafesFromCrawlBulk(
+            @RequestBody java.util.List<CrawlCafeRequestDto> requests) {
+        return ResponseEntity.ok(crawlIngestService.ingest(requests));
+    }
+
+    // 스트리밍 적재 (gzip 가능): 본문은 NDJSON 또는 최상위 JSON 배열, 크기와 무관하게 청크 단위로 읽고 저장
+    @PostMapping("/crawl/stream")
+    public ResponseEntity<CrawlBatchResultDto> createCafesFromCrawlStream(HttpServletRequest request)
+            throws java.io.IOException {
+        return ResponseEntity.ok(crawlIngestService.ingestStream(request.getInputStream()));
     }
 }
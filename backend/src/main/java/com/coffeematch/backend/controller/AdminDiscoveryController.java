@@ -0,0 +1,83 @@
+package com.coffeematch.backend.controller;
+
+import com.coffeematch.backend.dto.CrawlRunDto;
+import com.coffeematch.backend.dto.GeoSweepDto;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.service.DiscoveryService;
+import com.coffeematch.backend.service.impl.KakaoGeoGridSearch;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/discovery")
+public class AdminDiscoveryController {
+
+    private final DiscoveryService discoveryService;
+
+    public AdminDiscoveryController(DiscoveryService discoveryService) {
+        this.discoveryService = discoveryService;
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<List<CrawlRunDto>> getRuns() {
+        return ResponseEntity.ok(discoveryService.getRuns());
+    }
+
+    @GetMapping("/runs/{id}")
+    public ResponseEntity<CrawlRunDto> getRun(@PathVariable Long id) {
+        return discoveryService.getRun(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // 지역 순회 대량 탐색 시작: 202 + 실행 기록, 진행 상황은 /api/admin/discovery/runs/{id}
+    @PostMapping("/runs")
+    public ResponseEntity<?> startRun(@RequestBody CrawlRunDto.StartRequest request) {
+        if (request.getPlatform() == null || request.getKeyword() == null || request.getRegions() == null
+                || request.getRegions().isEmpty()) {
+            return ResponseEntity.badRequest().body("platform, keyword and regions are required");
+        }
+        CrawlRunDto run = discoveryService.startBulkDiscovery(Platform.valueOf(request.getPlatform()),
+                request.getRegions(), request.getKeyword());
+        return ResponseEntity.accepted()
+                .location(java.net.URI.create("/api/admin/discovery/runs/" + run.getId()))
+                .body(run);
+    }
+
+    // 중단/실패한 실행 재개: 완료된 지역은 건너뜀
+    @PostMapping("/runs/{id}/resume")
+    public ResponseEntity<?> resumeRun(@PathVariable Long id) {
+        if (discoveryService.getRun(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.accepted().body(discoveryService.resumeBulkDiscovery(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // 좌표 영역 격자 탐색 (카카오맵): 끝날 때까지 실행 후 요청/분할 통계 반환
+    @PostMapping("/grid")
+    public ResponseEntity<?> sweepGrid(@RequestBody GeoSweepDto.Request request) {
+        if (request.getMinLat() == null || request.getMinLng() == null || request.getMaxLat() == null
+                || request.getMaxLng() == null) {
+            return ResponseEntity.badRequest().body("minLat, minLng, maxLat and maxLng are required");
+        }
+        try {
+            KakaoGeoGridSearch.GeoCell bounds = new KakaoGeoGridSearch.GeoCell(request.getMinLat(),
+                    request.getMinLng(), request.getMaxLat(), request.getMaxLng());
+            return ResponseEntity.ok(discoveryService.discoverByGrid(bounds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Grid sweep interrupted");
+        }
+    }
+}
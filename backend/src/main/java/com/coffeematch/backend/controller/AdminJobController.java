@@ -0,0 +1,34 @@
+package com.coffeematch.backend.controller;
+
+import com.coffeematch.backend.dto.CrawlIngestJobDto;
+import com.coffeematch.backend.service.CrawlIngestJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+public class AdminJobController {
+
+    private final CrawlIngestJobService crawlIngestJobService;
+
+    public AdminJobController(CrawlIngestJobService crawlIngestJobService) {
+        this.crawlIngestJobService = crawlIngestJobService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CrawlIngestJobDto>> getJobs() {
+        return ResponseEntity.ok(crawlIngestJobService.getJobs());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CrawlIngestJobDto> getJob(@PathVariable String id) {
+        return crawlIngestJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,7 +1,9 @@
 package com.coffeematch.backend.controller;
 
 import com.coffeematch.backend.dto.AdminStatsDto;
+import com.coffeematch.backend.dto.RevisitBudgetReportDto;
 import com.coffeematch.backend.service.CafeService;
+import com.coffeematch.backend.service.RevisitStatsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,13 +14,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminStatsController {
 
     private final CafeService cafeService;
+    private final RevisitStatsService revisitStatsService;
 
-    public AdminStatsController(CafeService cafeService) {
+    public AdminStatsController(CafeService cafeService, RevisitStatsService revisitStatsService) {
         this.cafeService = cafeService;
+        this.revisitStatsService = revisitStatsService;
     }
 
     @GetMapping
     public ResponseEntity<AdminStatsDto> getStats() {
         return ResponseEntity.ok(cafeService.getAdminStats());
     }
+
+    // 변경률 기반 재방문 간격 vs 고정 간격 하루 방문 수 비교
+    @GetMapping("/revisit")
+    public ResponseEntity<RevisitBudgetReportDto> getRevisitBudgetReport() {
+        return ResponseEntity.ok(revisitStatsService.getBudgetReport());
+    }
 }
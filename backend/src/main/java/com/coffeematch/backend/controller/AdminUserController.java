@@ -0,0 +1,28 @@
+package com.coffeematch.backend.controller;
+
+import com.coffeematch.backend.entity.User;
+import com.coffeematch.backend.repository.UserRepository;
+import com.coffeematch.backend.security.TokenRevocationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminUserController {
+
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+
+    public AdminUserController(UserRepository userRepository, TokenRevocationService tokenRevocationService) {
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    // 해당 사용자의 기존 액세스/리프레시 토큰을 모두 폐기 (차단 시 사용)
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long id) {
+        User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
+        tokenRevocationService.revokeAllForSubject(user.getEmail());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -4,6 +4,10 @@ import com.coffeematch.backend.dto.AuthDto;
 import com.coffeematch.backend.entity.User;
 import com.coffeematch.backend.repository.UserRepository;
 import com.coffeematch.backend.security.JwtTokenProvider;
+import com.coffeematch.backend.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,13 +22,16 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthController(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider,
-            UserRepository userRepository, PasswordEncoder passwordEncoder) {
+            UserRepository userRepository, PasswordEncoder passwordEncoder,
+            TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/login")
@@ -36,9 +43,7 @@ public class AuthController {
             User user = userRepository.findByEmail(request.getEmail())
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-            String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
-
-            return ResponseEntity.ok(new AuthDto.JwtResponse(token, user.getNickname(), user.getRole()));
+            return ResponseEntity.ok(issueTokens(user));
         } catch (org.springframework.security.core.AuthenticationException e) {
             return ResponseEntity.status(401).body("Invalid email or password");
         } catch (Exception e) {
@@ -47,6 +52,58 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody AuthDto.RefreshRequest request) {
+        Claims claims = request.getRefreshToken() != null
+                ? jwtTokenProvider.parseRefreshToken(request.getRefreshToken())
+                : null;
+        if (claims == null) {
+            return ResponseEntity.status(401).body("Invalid refresh token");
+        }
+
+        // 리프레시 시점에는 사용자 존재/권한을 DB에서 다시 확인
+        User user = userRepository.findByEmail(claims.getSubject()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body("Invalid refresh token");
+        }
+
+        // 리프레시 토큰은 1회용 - 사용한 토큰은 폐기하고 새로 발급
+        // 같은 토큰으로 동시에 요청하면 폐기에 성공한 한 요청만 새 토큰을 받음
+        if (!tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration())) {
+            return ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(HttpServletRequest httpRequest,
+            @RequestBody(required = false) AuthDto.RefreshRequest request) {
+        revokeQuietly(jwtTokenProvider.resolveToken(httpRequest));
+        if (request != null) {
+            revokeQuietly(request.getRefreshToken());
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private AuthDto.JwtResponse issueTokens(User user) {
+        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+        return new AuthDto.JwtResponse(token, refreshToken,
+                jwtTokenProvider.getAccessTokenValidityInMilliseconds() / 1000, user.getNickname(), user.getRole());
+    }
+
+    private void revokeQuietly(String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 잘못된 토큰은 폐기할 필요 없음
+        }
+    }
+
     @PostMapping("/signup")
     public ResponseEntity<?> signup(@RequestBody AuthDto.SignupRequest request) {
         try {
@@ -27,14 +27,17 @@ public class CrawlingController {
     private final CrawlerService naverBlogCrawler;
     private final com.coffeematch.backend.service.impl.KakaoMapCrawler kakaoMapCrawler;
     private final CsvExportService csvExportService;
+    private final com.coffeematch.backend.service.impl.CrawlPageTimings crawlPageTimings;
 
     @Autowired
     public CrawlingController(@Qualifier("naverBlogCrawler") CrawlerService naverBlogCrawler,
             @Qualifier("kakaoMapCrawler") com.coffeematch.backend.service.impl.KakaoMapCrawler kakaoMapCrawler,
-            CsvExportService csvExportService) {
+            CsvExportService csvExportService,
+            com.coffeematch.backend.service.impl.CrawlPageTimings crawlPageTimings) {
         this.naverBlogCrawler = naverBlogCrawler;
         this.kakaoMapCrawler = kakaoMapCrawler;
         this.csvExportService = csvExportService;
+        this.crawlPageTimings = crawlPageTimings;
     }
 
     @GetMapping("/sample")
@@ -109,4 +112,25 @@ public class CrawlingController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 페이지 유형별 준비 시간 통계 (평균/p50/p95/최대, 시간 초과 횟수)
+     */
+    @GetMapping("/timings")
+    public ResponseEntity<List<com.coffeematch.backend.dto.CrawlPageTimingDto>> getPageTimings() {
+        return ResponseEntity.ok(crawlPageTimings.getTimings());
+    }
+
+    /**
+     * 저장된 카카오 상세 페이지 스냅샷을 다시 파싱 (다시 요청하지 않음)
+     */
+    @GetMapping("/reparse/kakao")
+    public ResponseEntity<List<com.coffeematch.backend.dto.CrawlerCafeDetailDto>> reparseKakaoDetails() {
+        try {
+            return ResponseEntity.ok(kakaoMapCrawler.reparseDetailsFromSnapshots());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -47,8 +47,14 @@ public class SimpleCrawlController {
             }
 
             List<CrawlDataDto> allData = new ArrayList<>();
-            // Use Jsoup crawler
-            allData.addAll(naverBlogCrawler.crawl(keyword, limit));
+            // Use Jsoup crawler (comma separated keywords are fetched concurrently)
+            List<String> keywords = new ArrayList<>();
+            for (String k : keyword.split(",")) {
+                if (!k.isBlank()) {
+                    keywords.add(k.trim());
+                }
+            }
+            allData.addAll(naverBlogCrawler.crawlAll(keywords, limit));
 
             // Generate CSV
             String filePath = "/tmp/simple_crawl_" + System.currentTimeMillis() + ".csv";
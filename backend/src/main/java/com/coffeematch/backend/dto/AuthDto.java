@@ -53,13 +53,29 @@ public class AuthDto {
         }
     }
 
+    public static class RefreshRequest {
+        private String refreshToken;
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+    }
+
     public static class JwtResponse {
         private String token;
+        private String refreshToken;
+        private long expiresIn; // 액세스 토큰 유효기간 (초)
         private String nickname;
         private String role;
 
-        public JwtResponse(String token, String nickname, String role) {
+        public JwtResponse(String token, String refreshToken, long expiresIn, String nickname, String role) {
             this.token = token;
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
             this.nickname = nickname;
             this.role = role;
         }
@@ -72,6 +88,22 @@ public class AuthDto {
             this.token = token;
         }
 
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+
+        public long getExpiresIn() {
+            return expiresIn;
+        }
+
+        public void setExpiresIn(long expiresIn) {
+            this.expiresIn = expiresIn;
+        }
+
         public String getNickname() {
             return nickname;
         }
@@ -0,0 +1,98 @@
+package com.coffeematch.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CrawlBatchResultDto {
+    private int total;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int duplicate;
+    private int failed;
+    private long elapsedMs;
+    private List<CrawlIngestItemResultDto> items = new ArrayList<>();
+
+    public CrawlBatchResultDto() {
+    }
+
+    public void add(CrawlIngestItemResultDto item) {
+        count(item);
+        items.add(item);
+    }
+
+    /**
+     * 항목을 집계에만 반영 (대용량 스트리밍 적재에서 항목 목록을 쌓지 않을 때 사용)
+     */
+    public void count(CrawlIngestItemResultDto item) {
+        total++;
+        switch (item.getStatus()) {
+            case INSERTED:
+                inserted++;
+                break;
+            case UPDATED:
+                updated++;
+                break;
+            case UNCHANGED:
+                unchanged++;
+                break;
+            case DUPLICATE:
+                duplicate++;
+                break;
+            case FAILED:
+                failed++;
+                break;
+            default:
+                break;
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * 저장된 항목(신규 + 갱신 + 변경 없음) 중 실제로 내용이 바뀐 비율
+     */
+    public double getChangedRatio() {
+        int stored = inserted + updated + unchanged;
+        return stored > 0 ? (double) (inserted + updated) / stored : 0;
+    }
+
+    public double getUnchangedRatio() {
+        int stored = inserted + updated + unchanged;
+        return stored > 0 ? (double) unchanged / stored : 0;
+    }
+
+    public int getDuplicate() {
+        return duplicate;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public List<CrawlIngestItemResultDto> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,80 @@
+package com.coffeematch.backend.dto;
+
+public class CrawlIngestItemResultDto {
+
+    public enum Status {
+        INSERTED, // 신규 등록
+        UPDATED, // 기존 카페 갱신
+        UNCHANGED, // 내용이 이전 크롤링과 같아 동기화 시각만 갱신
+        DUPLICATE, // 같은 배치 안의 뒤쪽 항목으로 대체됨
+        FAILED // 처리 실패
+    }
+
+    private int index; // 요청 배열에서의 위치
+    private String platformId;
+    private String name;
+    private Status status;
+    private Long cafeId;
+    private String message;
+
+    public CrawlIngestItemResultDto() {
+    }
+
+    public CrawlIngestItemResultDto(int index, String platformId, String name, Status status, Long cafeId,
+            String message) {
+        this.index = index;
+        this.platformId = platformId;
+        this.name = name;
+        this.status = status;
+        this.cafeId = cafeId;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getPlatformId() {
+        return platformId;
+    }
+
+    public void setPlatformId(String platformId) {
+        this.platformId = platformId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getCafeId() {
+        return cafeId;
+    }
+
+    public void setCafeId(Long cafeId) {
+        this.cafeId = cafeId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,154 @@
+package com.coffeematch.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CrawlIngestJobDto {
+    private String id;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private int total;
+    private long processed;
+    private long inserted;
+    private long updated;
+    private long unchanged;
+    private double changedRatio;
+    private long duplicate;
+    private long failed;
+    private double throughputPerSecond;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private List<CrawlIngestItemResultDto> failures;
+
+    public CrawlIngestJobDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(long unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public double getChangedRatio() {
+        return changedRatio;
+    }
+
+    public void setChangedRatio(double changedRatio) {
+        this.changedRatio = changedRatio;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getDuplicate() {
+        return duplicate;
+    }
+
+    public void setDuplicate(long duplicate) {
+        this.duplicate = duplicate;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public void setThroughputPerSecond(double throughputPerSecond) {
+        this.throughputPerSecond = throughputPerSecond;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public List<CrawlIngestItemResultDto> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<CrawlIngestItemResultDto> failures) {
+        this.failures = failures;
+    }
+}
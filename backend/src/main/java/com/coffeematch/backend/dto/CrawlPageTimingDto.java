@@ -0,0 +1,70 @@
+package com.coffeematch.backend.dto;
+
+public class CrawlPageTimingDto {
+    private String pageType;
+    private long count; // 누적 측정 횟수
+    private long timeouts; // 준비 조건을 만족하지 못하고 시간 초과된 횟수
+    private double avgMs; // 최근 샘플 기준
+    private long p50Ms;
+    private long p95Ms;
+    private long maxMs;
+
+    public CrawlPageTimingDto() {
+    }
+
+    public String getPageType() {
+        return pageType;
+    }
+
+    public void setPageType(String pageType) {
+        this.pageType = pageType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public double getAvgMs() {
+        return avgMs;
+    }
+
+    public void setAvgMs(double avgMs) {
+        this.avgMs = avgMs;
+    }
+
+    public long getP50Ms() {
+        return p50Ms;
+    }
+
+    public void setP50Ms(long p50Ms) {
+        this.p50Ms = p50Ms;
+    }
+
+    public long getP95Ms() {
+        return p95Ms;
+    }
+
+    public void setP95Ms(long p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    public long getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(long maxMs) {
+        this.maxMs = maxMs;
+    }
+}
@@ -0,0 +1,199 @@
+package com.coffeematch.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CrawlRunDto {
+    private Long id;
+    private String platform;
+    private String keyword;
+    private String status; // RUNNING, INTERRUPTED, FAILED, COMPLETED
+    private int totalRegions;
+    private int completedRegions;
+    private int newCafes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    private List<Region> regions; // 단건 조회에서만 포함
+
+    public CrawlRunDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public void setPlatform(String platform) {
+        this.platform = platform;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotalRegions() {
+        return totalRegions;
+    }
+
+    public void setTotalRegions(int totalRegions) {
+        this.totalRegions = totalRegions;
+    }
+
+    public int getCompletedRegions() {
+        return completedRegions;
+    }
+
+    public void setCompletedRegions(int completedRegions) {
+        this.completedRegions = completedRegions;
+    }
+
+    public int getNewCafes() {
+        return newCafes;
+    }
+
+    public void setNewCafes(int newCafes) {
+        this.newCafes = newCafes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+        private String region;
+        private String status; // PENDING, DONE, FAILED
+        private int newCafes;
+        private int attempts;
+        private String lastError;
+        private LocalDateTime finishedAt;
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public int getNewCafes() {
+            return newCafes;
+        }
+
+        public void setNewCafes(int newCafes) {
+            this.newCafes = newCafes;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public void setAttempts(int attempts) {
+            this.attempts = attempts;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        public void setLastError(String lastError) {
+            this.lastError = lastError;
+        }
+
+        public LocalDateTime getFinishedAt() {
+            return finishedAt;
+        }
+
+        public void setFinishedAt(LocalDateTime finishedAt) {
+            this.finishedAt = finishedAt;
+        }
+    }
+
+    /**
+     * 대량 탐색 시작 요청
+     */
+    public static class StartRequest {
+        private String platform;
+        private String keyword;
+        private List<String> regions;
+
+        public String getPlatform() {
+            return platform;
+        }
+
+        public void setPlatform(String platform) {
+            this.platform = platform;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public void setKeyword(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public List<String> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(List<String> regions) {
+            this.regions = regions;
+        }
+    }
+}
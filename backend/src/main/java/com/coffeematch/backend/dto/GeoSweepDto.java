@@ -0,0 +1,136 @@
+package com.coffeematch.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeoSweepDto {
+    private int cellsSearched;
+    private int cellsSplit;
+    private int truncatedCells; // 최소 셀 크기에서도 결과가 최대치를 넘은 셀 (일부 누락 가능)
+    private int failedCells;
+    private List<String> failedCellRects = new ArrayList<>(); // 실패한 셀 rect - 이 영역만 다시 요청
+    private int requests;
+    private int placesFound;
+    private int newCafes;
+    private long elapsedMs;
+
+    public GeoSweepDto() {
+    }
+
+    public int getCellsSearched() {
+        return cellsSearched;
+    }
+
+    public void setCellsSearched(int cellsSearched) {
+        this.cellsSearched = cellsSearched;
+    }
+
+    public int getCellsSplit() {
+        return cellsSplit;
+    }
+
+    public void setCellsSplit(int cellsSplit) {
+        this.cellsSplit = cellsSplit;
+    }
+
+    public int getTruncatedCells() {
+        return truncatedCells;
+    }
+
+    public void setTruncatedCells(int truncatedCells) {
+        this.truncatedCells = truncatedCells;
+    }
+
+    public int getFailedCells() {
+        return failedCells;
+    }
+
+    public void setFailedCells(int failedCells) {
+        this.failedCells = failedCells;
+    }
+
+    public List<String> getFailedCellRects() {
+        return failedCellRects;
+    }
+
+    public void setFailedCellRects(List<String> failedCellRects) {
+        this.failedCellRects = failedCellRects;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public void setRequests(int requests) {
+        this.requests = requests;
+    }
+
+    public int getPlacesFound() {
+        return placesFound;
+    }
+
+    public void setPlacesFound(int placesFound) {
+        this.placesFound = placesFound;
+    }
+
+    public int getNewCafes() {
+        return newCafes;
+    }
+
+    public void setNewCafes(int newCafes) {
+        this.newCafes = newCafes;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * 탐색 영역 (위경도 사각형)
+     */
+    public static class Request {
+        private Double minLat;
+        private Double minLng;
+        private Double maxLat;
+        private Double maxLng;
+
+        public Request() {
+        }
+
+        public Double getMinLat() {
+            return minLat;
+        }
+
+        public void setMinLat(Double minLat) {
+            this.minLat = minLat;
+        }
+
+        public Double getMinLng() {
+            return minLng;
+        }
+
+        public void setMinLng(Double minLng) {
+            this.minLng = minLng;
+        }
+
+        public Double getMaxLat() {
+            return maxLat;
+        }
+
+        public void setMaxLat(Double maxLat) {
+            this.maxLat = maxLat;
+        }
+
+        public Double getMaxLng() {
+            return maxLng;
+        }
+
+        public void setMaxLng(Double maxLng) {
+            this.maxLng = maxLng;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.coffeematch.backend.dto;
+
+public class RevisitBudgetReportDto {
+    private long modeledCafes;
+    private long dueNow;
+    private double averageChangeRatePerDay;
+    private double adaptiveVisitsPerDay; // 카페별 추정 간격으로 방문할 때 하루 방문 수
+    private int fixedIntervalDays;
+    private double fixedVisitsPerDay; // 같은 카페들을 고정 간격(fixedIntervalDays)으로 방문할 때
+    private double savedVisitsPerDay;
+    private double savedRatio;
+
+    public RevisitBudgetReportDto() {
+    }
+
+    public long getModeledCafes() {
+        return modeledCafes;
+    }
+
+    public void setModeledCafes(long modeledCafes) {
+        this.modeledCafes = modeledCafes;
+    }
+
+    public long getDueNow() {
+        return dueNow;
+    }
+
+    public void setDueNow(long dueNow) {
+        this.dueNow = dueNow;
+    }
+
+    public double getAverageChangeRatePerDay() {
+        return averageChangeRatePerDay;
+    }
+
+    public void setAverageChangeRatePerDay(double averageChangeRatePerDay) {
+        this.averageChangeRatePerDay = averageChangeRatePerDay;
+    }
+
+    public double getAdaptiveVisitsPerDay() {
+        return adaptiveVisitsPerDay;
+    }
+
+    public void setAdaptiveVisitsPerDay(double adaptiveVisitsPerDay) {
+        this.adaptiveVisitsPerDay = adaptiveVisitsPerDay;
+    }
+
+    public int getFixedIntervalDays() {
+        return fixedIntervalDays;
+    }
+
+    public void setFixedIntervalDays(int fixedIntervalDays) {
+        this.fixedIntervalDays = fixedIntervalDays;
+    }
+
+    public double getFixedVisitsPerDay() {
+        return fixedVisitsPerDay;
+    }
+
+    public void setFixedVisitsPerDay(double fixedVisitsPerDay) {
+        this.fixedVisitsPerDay = fixedVisitsPerDay;
+    }
+
+    public double getSavedVisitsPerDay() {
+        return savedVisitsPerDay;
+    }
+
+    public void setSavedVisitsPerDay(double savedVisitsPerDay) {
+        this.savedVisitsPerDay = savedVisitsPerDay;
+    }
+
+    public double getSavedRatio() {
+        return savedRatio;
+    }
+
+    public void setSavedRatio(double savedRatio) {
+        this.savedRatio = savedRatio;
+    }
+}
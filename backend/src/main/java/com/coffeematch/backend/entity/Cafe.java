@@ -10,6 +10,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 플랫폼 id 로 카페를 찾는 조회(발견/적재 시 중복 확인)와 같은 장소의 중복 INSERT 방지
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cafe_source_platform_platform_id", columnNames = {
+        "source_platform", "platform_id" }), indexes = {
+        @Index(name = "idx_cafe_platform_synced", columnList = "sourcePlatform, lastSyncedAt"),
+        @Index(name = "idx_cafe_last_synced", columnList = "lastSyncedAt"),
+        // 키셋 스크롤 (조건 = ? AND id > ? ORDER BY id) - InnoDB 보조 인덱스는 끝에 PK 를 포함
+        @Index(name = "idx_cafe_status", columnList = "status"),
+        @Index(name = "idx_cafe_source_platform", columnList = "sourcePlatform")
+})
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Cafe {
 
@@ -55,6 +64,10 @@ public class Cafe {
     @Column(length = 20)
     private CafeStatus status = CafeStatus.ACTIVE;
 
+    // 폐업 검증 연속 실패 횟수 (존재가 확인되면 0 으로 초기화)
+    @Column(columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer failedCheckCount = 0;
+
     // Coordinates for deduplication
     private Double latitude;
     private Double longitude;
@@ -179,6 +192,14 @@ public class Cafe {
         this.status = status;
     }
 
+    public Integer getFailedCheckCount() {
+        return failedCheckCount;
+    }
+
+    public void setFailedCheckCount(Integer failedCheckCount) {
+        this.failedCheckCount = failedCheckCount;
+    }
+
     public Double getLatitude() {
         return latitude;
     }
@@ -0,0 +1,129 @@
+package com.coffeematch.backend.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카페별 변경 빈도 추정치와 다음 재수집 예정 시각
+ * - 변경을 포아송 과정으로 보고 관측한 변경 횟수 / 관측 기간(일)으로 변경률(λ, 회/일)을 추정
+ * - events / observedDays 는 최근 관측 창(window) 안의 값만 남도록 비율을 유지한 채 축소
+ * - id 를 직접 지정하므로 Persistable 로 신규 여부를 알려 saveAll 이 merge 전 SELECT 를 하지 않게 함
+ */
+@Entity
+@Table(name = "cafe_revisit_stats", indexes = @Index(name = "idx_cafe_revisit_stats_next_due_at", columnList = "nextDueAt"))
+public class CafeRevisitStats implements Persistable<Long> {
+
+    @Id
+    private Long cafeId;
+
+    private double events; // 관측 창 안의 변경 횟수 (새 리뷰 수, 내용 해시 변경은 1회)
+    private double observedDays; // 관측 창 길이 (방문 간격 합)
+    private int visits;
+    private double changeRatePerDay;
+    private double intervalHours; // 현재 재방문 간격
+
+    private LocalDateTime lastVisitedAt;
+    private LocalDateTime lastChangedAt;
+    private LocalDateTime nextDueAt;
+
+    @Transient
+    private boolean isNew;
+
+    public CafeRevisitStats() {
+    }
+
+    public CafeRevisitStats(Long cafeId) {
+        this.cafeId = cafeId;
+        this.isNew = true;
+    }
+
+    @Override
+    public Long getId() {
+        return cafeId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getCafeId() {
+        return cafeId;
+    }
+
+    public void setCafeId(Long cafeId) {
+        this.cafeId = cafeId;
+    }
+
+    public double getEvents() {
+        return events;
+    }
+
+    public void setEvents(double events) {
+        this.events = events;
+    }
+
+    public double getObservedDays() {
+        return observedDays;
+    }
+
+    public void setObservedDays(double observedDays) {
+        this.observedDays = observedDays;
+    }
+
+    public int getVisits() {
+        return visits;
+    }
+
+    public void setVisits(int visits) {
+        this.visits = visits;
+    }
+
+    public double getChangeRatePerDay() {
+        return changeRatePerDay;
+    }
+
+    public void setChangeRatePerDay(double changeRatePerDay) {
+        this.changeRatePerDay = changeRatePerDay;
+    }
+
+    public double getIntervalHours() {
+        return intervalHours;
+    }
+
+    public void setIntervalHours(double intervalHours) {
+        this.intervalHours = intervalHours;
+    }
+
+    public LocalDateTime getLastVisitedAt() {
+        return lastVisitedAt;
+    }
+
+    public void setLastVisitedAt(LocalDateTime lastVisitedAt) {
+        this.lastVisitedAt = lastVisitedAt;
+    }
+
+    public LocalDateTime getLastChangedAt() {
+        return lastChangedAt;
+    }
+
+    public void setLastChangedAt(LocalDateTime lastChangedAt) {
+        this.lastChangedAt = lastChangedAt;
+    }
+
+    public LocalDateTime getNextDueAt() {
+        return nextDueAt;
+    }
+
+    public void setNextDueAt(LocalDateTime nextDueAt) {
+        this.nextDueAt = nextDueAt;
+    }
+}
@@ -0,0 +1,151 @@
+package com.coffeematch.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역 순회 대량 탐색 실행 기록
+ * - 지역별 진행 상태는 crawl_run_region 에 체크포인트로 저장
+ * - 서버 재시작 등으로 중단된 실행은 INTERRUPTED 로 표시되고, 재개하면 끝난 지역은 건너뜀
+ * - ownerId 는 실행 중인 인스턴스, updatedAt 은 지역마다 갱신되는 heartbeat
+ *   (다른 인스턴스가 실행 중인 기록은 heartbeat 가 오래된 경우에만 중단으로 판단)
+ */
+@Entity
+@Table(name = "crawl_run", indexes = @Index(name = "idx_crawl_run_status", columnList = "status"))
+public class CrawlRun {
+
+    public enum Status {
+        RUNNING,
+        INTERRUPTED, // 서버 종료/재시작으로 중단 - 재개 가능
+        FAILED, // 일부 지역 실패 - 재개 시 실패 지역만 다시 실행
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Platform platform;
+
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    @Column(length = 64)
+    private String ownerId;
+
+    private int totalRegions;
+    private int completedRegions;
+    private int newCafes;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public CrawlRun() {
+    }
+
+    public CrawlRun(Platform platform, String keyword, int totalRegions) {
+        this.platform = platform;
+        this.keyword = keyword;
+        this.totalRegions = totalRegions;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    public void setPlatform(Platform platform) {
+        this.platform = platform;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(String ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public int getTotalRegions() {
+        return totalRegions;
+    }
+
+    public void setTotalRegions(int totalRegions) {
+        this.totalRegions = totalRegions;
+    }
+
+    public int getCompletedRegions() {
+        return completedRegions;
+    }
+
+    public void setCompletedRegions(int completedRegions) {
+        this.completedRegions = completedRegions;
+    }
+
+    public int getNewCafes() {
+        return newCafes;
+    }
+
+    public void setNewCafes(int newCafes) {
+        this.newCafes = newCafes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,127 @@
+package com.coffeematch.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 탐색 실행의 지역별 체크포인트
+ * - 지역 탐색 결과와 DONE 표시는 같은 트랜잭션에서 커밋되므로 DONE 인 지역은 다시 실행할 필요가 없음
+ */
+@Entity
+@Table(name = "crawl_run_region", uniqueConstraints = @UniqueConstraint(name = "uk_crawl_run_region_run_seq", columnNames = {
+        "run_id", "seq" }))
+public class CrawlRunRegion {
+
+    public enum Status {
+        PENDING,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(nullable = false)
+    private int seq; // 순회 순서
+
+    @Column(nullable = false, length = 100)
+    private String region;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    private int newCafes;
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime finishedAt;
+
+    public CrawlRunRegion() {
+    }
+
+    public CrawlRunRegion(Long runId, int seq, String region) {
+        this.runId = runId;
+        this.seq = seq;
+        this.region = region;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public int getSeq() {
+        return seq;
+    }
+
+    public void setSeq(int seq) {
+        this.seq = seq;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getNewCafes() {
+        return newCafes;
+    }
+
+    public void setNewCafes(int newCafes) {
+        this.newCafes = newCafes;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
+@Table(name = "platform_data", uniqueConstraints = @UniqueConstraint(name = "uk_platform_data_cafe_platform",
+        columnNames = { "cafe_id", "platform" }))
 public class PlatformData {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +37,10 @@ public class PlatformData {
 
     private LocalDateTime lastCheckedAt;
 
+    // 정규화된 크롤링 결과의 SHA-256 (같으면 재크롤링 시 쓰기 생략)
+    @Column(length = 64)
+    private String contentHash;
+
     public PlatformData() {
     }
 
@@ -122,4 +128,12 @@ public class PlatformData {
     public void setLastCheckedAt(LocalDateTime lastCheckedAt) {
         this.lastCheckedAt = lastCheckedAt;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
 }
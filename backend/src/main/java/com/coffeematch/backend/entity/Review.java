@@ -7,6 +7,8 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_platform_review", columnNames = { "source_platform",
+        "platform_review_id" }))
 public class Review {
 
     @Id
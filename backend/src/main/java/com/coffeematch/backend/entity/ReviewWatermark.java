@@ -0,0 +1,115 @@
+package com.coffeematch.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * (카페, 플랫폼)별 가장 최근 수집 리뷰 위치
+ * - 증분 수집 때 review 테이블의 MAX(created_at) 대신 이 행 하나만 읽음
+ * - 리뷰 INSERT 와 같은 트랜잭션에서 upsert (CafeBulkRepository.upsertReviewWatermarks)
+ * - latestReviewAt 이 null 이면 날짜 있는 리뷰를 아직 수집하지 못한 것
+ */
+@Entity
+@Table(name = "review_watermark")
+@IdClass(ReviewWatermark.Key.class)
+public class ReviewWatermark {
+
+    @Id
+    @Column(name = "cafe_id")
+    private Long cafeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Platform platform;
+
+    private LocalDateTime latestReviewAt;
+
+    @Column(length = 100)
+    private String latestPlatformReviewId;
+
+    private LocalDateTime updatedAt;
+
+    public ReviewWatermark() {
+    }
+
+    public ReviewWatermark(Long cafeId, Platform platform, LocalDateTime latestReviewAt,
+            String latestPlatformReviewId, LocalDateTime updatedAt) {
+        this.cafeId = cafeId;
+        this.platform = platform;
+        this.latestReviewAt = latestReviewAt;
+        this.latestPlatformReviewId = latestPlatformReviewId;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getCafeId() {
+        return cafeId;
+    }
+
+    public void setCafeId(Long cafeId) {
+        this.cafeId = cafeId;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    public void setPlatform(Platform platform) {
+        this.platform = platform;
+    }
+
+    public LocalDateTime getLatestReviewAt() {
+        return latestReviewAt;
+    }
+
+    public void setLatestReviewAt(LocalDateTime latestReviewAt) {
+        this.latestReviewAt = latestReviewAt;
+    }
+
+    public String getLatestPlatformReviewId() {
+        return latestPlatformReviewId;
+    }
+
+    public void setLatestPlatformReviewId(String latestPlatformReviewId) {
+        this.latestPlatformReviewId = latestPlatformReviewId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class Key implements Serializable {
+        private Long cafeId;
+        private Platform platform;
+
+        public Key() {
+        }
+
+        public Key(Long cafeId, Platform platform) {
+            this.cafeId = cafeId;
+            this.platform = platform;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return Objects.equals(cafeId, key.cafeId) && platform == key.platform;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cafeId, platform);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.coffeematch.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 폐기 기록
+ * - "jti:{id}" : 특정 토큰 하나를 폐기 (로그아웃, 리프레시 토큰 교체)
+ * - "sub:{email}" : revokedAt 이전에 발급된 해당 사용자의 모든 토큰을 폐기 (관리자 차단)
+ * expiresAt 이후에는 대상 토큰이 모두 만료되므로 레코드를 삭제해도 된다.
+ */
+@Entity
+@Table(name = "token_revocation", indexes = @Index(name = "idx_token_revocation_expires_at", columnList = "expiresAt"))
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 150)
+    private String revocationKey;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public TokenRevocation() {
+    }
+
+    public TokenRevocation(String revocationKey, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.revocationKey = revocationKey;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRevocationKey() {
+        return revocationKey;
+    }
+
+    public void setRevocationKey(String revocationKey) {
+        this.revocationKey = revocationKey;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(LocalDateTime revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
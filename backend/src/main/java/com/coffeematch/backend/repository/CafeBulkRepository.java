@@ -0,0 +1,278 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.PlatformData;
+import com.coffeematch.backend.entity.Review;
+import com.coffeematch.backend.entity.ReviewWatermark;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링 대량 적재용 JDBC 배치 쿼리
+ * - IDENTITY 키 때문에 Hibernate 는 INSERT 를 배치로 묶지 못하므로 JdbcTemplate 로 직접 실행
+ * - rewriteBatchedStatements=true 이면 드라이버가 배치를 multi-row INSERT 로 재작성하고,
+ *   MySQL 이 연속된 AUTO_INCREMENT 블록을 할당해 getGeneratedKeys 로 돌려준다
+ * - 호출하는 쪽의 트랜잭션(JPA)과 같은 커넥션을 사용
+ */
+@Repository
+public class CafeBulkRepository {
+
+    private static final String INSERT_CAFE_SQL = "INSERT INTO cafe (name, address, phone, description, business_type, "
+            + "bookmark_count, review_count, internal_rating_avg, failed_check_count, source_platform, platform_id, "
+            + "last_synced_at, status, latitude, longitude) VALUES (?, ?, ?, ?, ?, 0, 0, 0.0, 0, ?, ?, ?, ?, ?, ?)";
+
+    // status, business_type 은 값이 주어졌을 때만 덮어쓴다 (createCafeFromCrawl 과 동일)
+    private static final String UPDATE_CAFE_SQL = "UPDATE cafe SET name = ?, address = ?, phone = ?, latitude = ?, "
+            + "longitude = ?, last_synced_at = ?, description = ?, status = COALESCE(?, status), "
+            + "business_type = COALESCE(?, business_type) WHERE id = ?";
+
+    // (cafe_id, platform) 유니크 키 기준 upsert, rawData 가 비어 있으면 기존 raw_data 유지
+    private static final String UPSERT_PLATFORM_DATA_SQL = "INSERT INTO platform_data (cafe_id, platform, raw_data, "
+            + "content_hash, last_checked_at) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "raw_data = COALESCE(VALUES(raw_data), raw_data), content_hash = VALUES(content_hash), "
+            + "last_checked_at = VALUES(last_checked_at)";
+
+    // (source_platform, platform_review_id) 유니크 키 - 동시에 같은 리뷰가 들어와도 한 건만 남김
+    // VALUES 행은 insertReviews 에서 청크 크기만큼 붙임
+    private static final String INSERT_REVIEW_SQL = "INSERT IGNORE INTO review (cafe_id, author, rating, content, "
+            + "image_url, created_at, source_platform, platform_review_id, crawled_at) VALUES ";
+    private static final String INSERT_REVIEW_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int INSERT_REVIEW_CHUNK_SIZE = 500;
+
+    // 리뷰 수/평점 평균/동기화 시각을 카페당 UPDATE 한 번으로 갱신
+    private static final String UPDATE_REVIEW_AGGREGATES_SQL = "UPDATE cafe SET review_count = review_count + ?, "
+            + "internal_rating_avg = COALESCE((SELECT AVG(r.rating) FROM review r WHERE r.cafe_id = ? "
+            + "AND r.rating IS NOT NULL), internal_rating_avg), last_synced_at = ? WHERE id = ?";
+
+    // 더 최근 리뷰일 때만 위치를 앞으로 옮김 (MySQL 은 SET 을 왼쪽부터 평가하므로 id 를 먼저 비교)
+    // 새 값은 행 별칭(incoming)으로 참조 - VALUES() 함수는 8.0.20 부터 deprecated, 별칭은 8.0.19 이상 필요
+    private static final String UPSERT_REVIEW_WATERMARK_SQL = "INSERT INTO review_watermark (cafe_id, platform, "
+            + "latest_review_at, latest_platform_review_id, updated_at) VALUES (?, ?, ?, ?, ?) AS incoming "
+            + "ON DUPLICATE KEY UPDATE "
+            + "latest_platform_review_id = IF(latest_review_at IS NULL OR incoming.latest_review_at > latest_review_at, "
+            + "incoming.latest_platform_review_id, latest_platform_review_id), "
+            + "latest_review_at = GREATEST(COALESCE(latest_review_at, incoming.latest_review_at), "
+            + "COALESCE(incoming.latest_review_at, latest_review_at)), updated_at = incoming.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CafeBulkRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 카페 일괄 INSERT 후 생성된 id 를 각 엔티티에 설정
+     */
+    public void insertCafes(List<Cafe> cafes) {
+        if (cafes.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_CAFE_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Cafe cafe = cafes.get(i);
+                        ps.setString(1, cafe.getName());
+                        ps.setString(2, cafe.getAddress());
+                        ps.setString(3, cafe.getPhone());
+                        ps.setString(4, cafe.getDescription());
+                        ps.setString(5, cafe.getBusinessType());
+                        ps.setString(6, cafe.getSourcePlatform().name());
+                        ps.setString(7, cafe.getPlatformId());
+                        ps.setTimestamp(8, toTimestamp(cafe.getLastSyncedAt()));
+                        ps.setString(9, cafe.getStatus() != null ? cafe.getStatus().name() : null);
+                        setDouble(ps, 10, cafe.getLatitude());
+                        setDouble(ps, 11, cafe.getLongitude());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return cafes.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < cafes.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            cafes.get(i).setId(((Number) key).longValue());
+        }
+    }
+
+    /**
+     * 크롤링으로 갱신되는 컬럼만 일괄 UPDATE
+     * status / businessType 이 null 이면 기존 값을 유지
+     *
+     * @return 카페별 갱신된 행 수
+     */
+    public int[] updateCrawledCafes(List<Cafe> cafes) {
+        if (cafes.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_CAFE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Cafe cafe = cafes.get(i);
+                ps.setString(1, cafe.getName());
+                ps.setString(2, cafe.getAddress());
+                ps.setString(3, cafe.getPhone());
+                setDouble(ps, 4, cafe.getLatitude());
+                setDouble(ps, 5, cafe.getLongitude());
+                ps.setTimestamp(6, toTimestamp(cafe.getLastSyncedAt()));
+                ps.setString(7, cafe.getDescription());
+                ps.setString(8, cafe.getStatus() != null ? cafe.getStatus().name() : null);
+                ps.setString(9, cafe.getBusinessType());
+                ps.setLong(10, cafe.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return cafes.size();
+            }
+        });
+    }
+
+    /**
+     * 플랫폼 데이터 한 건 upsert (cafe 는 id 만 사용)
+     */
+    public void upsertPlatformData(PlatformData row) {
+        jdbcTemplate.update(UPSERT_PLATFORM_DATA_SQL, ps -> setPlatformDataValues(ps, row));
+    }
+
+    /**
+     * 플랫폼 데이터 일괄 upsert - 신규/기존 구분 없이 배치 한 번으로 처리
+     */
+    public void upsertPlatformData(List<PlatformData> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_PLATFORM_DATA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setPlatformDataValues(ps, rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 크롤링 리뷰 일괄 INSERT (review.cafe 는 id 만 사용)
+     * - JDBC 배치는 rewriteBatchedStatements 로 재작성되면 행별 결과 대신 SUCCESS_NO_INFO 만 돌려주므로
+     *   청크마다 multi-row INSERT IGNORE 한 문장을 직접 실행하고 그 영향 행 수를 사용
+     * - 영향 행 수에는 유니크 키 충돌로 무시된 행이 빠지므로 동시에 같은 리뷰가 들어와도 리뷰 수가 부풀지 않음
+     *
+     * @return 실제로 INSERT 된 행 수
+     */
+    public int insertReviews(List<Review> reviews) {
+        int inserted = 0;
+        for (int from = 0; from < reviews.size(); from += INSERT_REVIEW_CHUNK_SIZE) {
+            List<Review> chunk = reviews.subList(from, Math.min(reviews.size(), from + INSERT_REVIEW_CHUNK_SIZE));
+            String sql = INSERT_REVIEW_SQL + String.join(", ", Collections.nCopies(chunk.size(), INSERT_REVIEW_ROW));
+            inserted += jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (Review review : chunk) {
+                    ps.setLong(index++, review.getCafe().getId());
+                    ps.setString(index++, review.getAuthor());
+                    if (review.getRating() != null) {
+                        ps.setInt(index++, review.getRating());
+                    } else {
+                        ps.setNull(index++, Types.INTEGER);
+                    }
+                    ps.setString(index++, review.getContent());
+                    ps.setString(index++, review.getImageUrl());
+                    ps.setTimestamp(index++, toTimestamp(review.getCreatedAt()));
+                    ps.setString(index++, review.getSourcePlatform().name());
+                    ps.setString(index++, review.getPlatformReviewId());
+                    ps.setTimestamp(index++, toTimestamp(review.getCrawledAt()));
+                }
+            });
+        }
+        return inserted;
+    }
+
+    /**
+     * 리뷰 적재 후 카페 집계 갱신 - 리뷰 수 증가, 평점 평균 재계산, last_synced_at
+     */
+    public void updateReviewAggregates(Long cafeId, int newReviews, LocalDateTime syncedAt) {
+        jdbcTemplate.update(UPDATE_REVIEW_AGGREGATES_SQL, newReviews, cafeId, toTimestamp(syncedAt), cafeId);
+    }
+
+    /**
+     * 리뷰 워터마크 일괄 upsert - 기존 값보다 오래된 위치로는 되돌리지 않음
+     */
+    public void upsertReviewWatermarks(List<ReviewWatermark> watermarks) {
+        if (watermarks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_REVIEW_WATERMARK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReviewWatermark watermark = watermarks.get(i);
+                ps.setLong(1, watermark.getCafeId());
+                ps.setString(2, watermark.getPlatform().name());
+                ps.setTimestamp(3, toTimestamp(watermark.getLatestReviewAt()));
+                ps.setString(4, watermark.getLatestPlatformReviewId());
+                ps.setTimestamp(5, toTimestamp(watermark.getUpdatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return watermarks.size();
+            }
+        });
+    }
+
+    private void setPlatformDataValues(PreparedStatement ps, PlatformData row) throws SQLException {
+        ps.setLong(1, row.getCafe().getId());
+        ps.setString(2, row.getPlatform().name());
+        ps.setString(3, toJson(row.getRawData()));
+        ps.setString(4, row.getContentHash());
+        ps.setTimestamp(5, toTimestamp(row.getLastCheckedAt()));
+    }
+
+    private String toJson(Map<String, Object> rawData) {
+        if (rawData == null || rawData.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(rawData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid rawData: " + e.getMessage(), e);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+}
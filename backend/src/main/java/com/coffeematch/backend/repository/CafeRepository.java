@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +21,79 @@ public interface CafeRepository extends JpaRepository<Cafe, Long> {
     // Platform tracking queries
     Optional<Cafe> findBySourcePlatformAndPlatformId(Platform platform, String platformId);
 
+    // 대량 적재용: [platformId, id] 쌍을 한 번의 IN 쿼리로 조회
+    @org.springframework.data.jpa.repository.Query("SELECT c.platformId, c.id FROM Cafe c "
+            + "WHERE c.sourcePlatform = :platform AND c.platformId IN :platformIds")
+    List<Object[]> findIdsBySourcePlatformAndPlatformIdIn(Platform platform, Collection<String> platformIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Cafe c SET c.lastSyncedAt = :syncedAt WHERE c.id = :id")
+    int updateLastSyncedAt(Long id, LocalDateTime syncedAt);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Cafe c SET c.lastSyncedAt = :syncedAt WHERE c.id IN :ids")
+    int touchLastSyncedAt(Collection<Long> ids, LocalDateTime syncedAt);
+
+    // 폐업 검증 결과 반영 (목표 상태별로 한 번씩) - 존재 확인: 실패 횟수 초기화 + 동기화 시각 갱신
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Cafe c SET c.status = :status, c.failedCheckCount = 0, "
+            + "c.lastSyncedAt = :checkedAt WHERE c.id IN :ids")
+    int markExistenceConfirmed(Collection<Long> ids, CafeStatus status, LocalDateTime checkedAt);
+
+    // 폐업 검증 실패 - 연속 실패 횟수 증가
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Cafe c SET c.status = :status, "
+            + "c.failedCheckCount = c.failedCheckCount + 1 WHERE c.id IN :ids")
+    int markExistenceFailed(Collection<Long> ids, CafeStatus status);
+
     List<Cafe> findByStatus(CafeStatus status);
 
     List<Cafe> findByLastSyncedAtBefore(LocalDateTime threshold);
 
+    // 전체 순회 작업용 키셋 스크롤: id > afterId 부터 LIMIT 건씩 (CafeScroller 로 반복)
+    List<Cafe> findByStatusAndIdGreaterThanOrderByIdAsc(CafeStatus status, Long afterId,
+            org.springframework.data.domain.Pageable pageable);
+
+    List<Cafe> findByLastSyncedAtBeforeAndIdGreaterThanOrderByIdAsc(LocalDateTime threshold, Long afterId,
+            org.springframework.data.domain.Pageable pageable);
+
+    List<Cafe> findBySourcePlatformAndIdGreaterThanOrderByIdAsc(Platform platform, Long afterId,
+            org.springframework.data.domain.Pageable pageable);
+
+    // 중복 비교용 전체 스트리밍 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍)
+    // 엔티티 대신 비교에 쓰는 컬럼만 읽으므로 영속성 컨텍스트에 쌓이지 않음 - 트랜잭션 안에서 try-with-resources 로 사용
+    // [id, name, address, phone, latitude, longitude]
+    @org.springframework.data.jpa.repository.QueryHints({
+            @jakarta.persistence.QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE,
+                    value = "" + Integer.MIN_VALUE) })
+    @org.springframework.data.jpa.repository.Query("SELECT c.id, c.name, c.address, c.phone, c.latitude, c.longitude "
+            + "FROM Cafe c")
+    java.util.stream.Stream<Object[]> streamDuplicateCandidates();
+
+    // 재수집 후보: 오래된 순으로 LIMIT 까지만 (idx_cafe_platform_synced / idx_cafe_last_synced 사용)
+    @org.springframework.data.jpa.repository.Query("SELECT c FROM Cafe c WHERE c.sourcePlatform = :platform "
+            + "AND c.lastSyncedAt < :threshold ORDER BY c.lastSyncedAt ASC")
+    List<Cafe> findStaleBySourcePlatform(Platform platform, LocalDateTime threshold,
+            org.springframework.data.domain.Pageable pageable);
+
+    @org.springframework.data.jpa.repository.Query("SELECT c FROM Cafe c WHERE c.lastSyncedAt < :threshold "
+            + "ORDER BY c.lastSyncedAt ASC")
+    List<Cafe> findStale(LocalDateTime threshold, org.springframework.data.domain.Pageable pageable);
+
+    // 변경률 추정치 기준 재수집 예정 시각이 지난 카페 (idx_cafe_revisit_stats_next_due_at 사용)
+    @org.springframework.data.jpa.repository.Query("SELECT c FROM CafeRevisitStats s JOIN Cafe c ON c.id = s.cafeId "
+            + "WHERE s.nextDueAt <= :now AND c.sourcePlatform = :platform ORDER BY s.nextDueAt ASC")
+    List<Cafe> findDueBySourcePlatform(Platform platform, LocalDateTime now,
+            org.springframework.data.domain.Pageable pageable);
+
+    // 변경률 추정치가 아직 없는 오래된 카페
+    @org.springframework.data.jpa.repository.Query("SELECT c FROM Cafe c WHERE c.sourcePlatform = :platform "
+            + "AND c.lastSyncedAt < :threshold "
+            + "AND NOT EXISTS (SELECT s.cafeId FROM CafeRevisitStats s WHERE s.cafeId = c.id) "
+            + "ORDER BY c.lastSyncedAt ASC")
+    List<Cafe> findUnscheduledStaleBySourcePlatform(Platform platform, LocalDateTime threshold,
+            org.springframework.data.domain.Pageable pageable);
+
     List<Cafe> findBySourcePlatform(Platform platform);
 
     // Location-based query using Haversine formula
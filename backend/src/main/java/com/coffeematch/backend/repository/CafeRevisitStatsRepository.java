@@ -0,0 +1,19 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.CafeRevisitStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CafeRevisitStatsRepository extends JpaRepository<CafeRevisitStats, Long> {
+    long countByNextDueAtLessThanEqual(LocalDateTime now);
+
+    // 예산 리포트용: [모델링된 카페 수, 하루 예상 방문 수, 평균 변경률]
+    @Query("SELECT COUNT(s), COALESCE(SUM(24.0 / s.intervalHours), 0), COALESCE(AVG(s.changeRatePerDay), 0) "
+            + "FROM CafeRevisitStats s WHERE s.intervalHours > 0")
+    List<Object[]> summarize();
+}
@@ -0,0 +1,16 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.CrawlRunRegion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CrawlRunRegionRepository extends JpaRepository<CrawlRunRegion, Long> {
+    List<CrawlRunRegion> findByRunIdOrderBySeq(Long runId);
+
+    List<CrawlRunRegion> findByRunIdAndStatusNotOrderBySeq(Long runId, CrawlRunRegion.Status status);
+
+    long countByRunIdAndStatus(Long runId, CrawlRunRegion.Status status);
+}
@@ -0,0 +1,54 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.CrawlRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
+    List<CrawlRun> findTop50ByOrderByIdDesc();
+
+    List<CrawlRun> findByStatus(CrawlRun.Status status);
+
+    /**
+     * 지역 하나 완료 - 지역 체크포인트와 같은 트랜잭션에서 호출
+     */
+    @Modifying
+    @Query("UPDATE CrawlRun r SET r.completedRegions = r.completedRegions + 1, r.newCafes = r.newCafes + :newCafes, "
+            + "r.updatedAt = :now WHERE r.id = :id")
+    int addCompletedRegion(Long id, int newCafes, LocalDateTime now);
+
+    /**
+     * 실행 시작 - 다른 스레드가 이미 실행 중이면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlRun r SET r.status = :running, r.ownerId = :ownerId, r.updatedAt = :now, r.finishedAt = null "
+            + "WHERE r.id = :id AND r.status NOT IN (:running, :completed)")
+    int markRunning(Long id, CrawlRun.Status running, CrawlRun.Status completed, String ownerId, LocalDateTime now);
+
+    /**
+     * 실행 중 heartbeat - 지역 하나를 처리할 때마다 (성공/실패 모두)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlRun r SET r.updatedAt = :now WHERE r.id = :id")
+    int heartbeat(Long id, LocalDateTime now);
+
+    /**
+     * 다른 인스턴스(또는 이전 프로세스)의 실행 중 기록 중 heartbeat 가 staleBefore 보다 오래된 것을 INTERRUPTED 로
+     * - 이 인스턴스가 실행 중인 기록과 아직 heartbeat 가 오는 다른 인스턴스의 기록은 건드리지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlRun r SET r.status = :interrupted, r.updatedAt = :now WHERE r.status = :running "
+            + "AND (r.ownerId IS NULL OR r.ownerId <> :ownerId) AND r.updatedAt < :staleBefore")
+    int markInterrupted(CrawlRun.Status running, CrawlRun.Status interrupted, String ownerId,
+            LocalDateTime staleBefore, LocalDateTime now);
+}
@@ -3,8 +3,12 @@ package com.coffeematch.backend.repository;
 import com.coffeematch.backend.entity.Platform;
 import com.coffeematch.backend.entity.PlatformData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,15 @@ public interface PlatformDataRepository extends JpaRepository<PlatformData, Long
     List<PlatformData> findByCafeId(Long cafeId);
 
     Optional<PlatformData> findByCafeIdAndPlatform(Long cafeId, Platform platform);
+
+    // 대량 적재용: [cafeId, contentHash] 조회
+    @Query("SELECT pd.cafe.id, pd.contentHash FROM PlatformData pd "
+            + "WHERE pd.platform = :platform AND pd.cafe.id IN :cafeIds")
+    List<Object[]> findContentHashesByPlatformAndCafeIdIn(Platform platform, Collection<Long> cafeIds);
+
+    // 내용이 바뀌지 않은 재크롤링: 확인 시각만 일괄 갱신
+    @Modifying
+    @Query("UPDATE PlatformData pd SET pd.lastCheckedAt = :checkedAt "
+            + "WHERE pd.platform = :platform AND pd.cafe.id IN :cafeIds")
+    int touchLastCheckedAt(Platform platform, Collection<Long> cafeIds, LocalDateTime checkedAt);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +21,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Optional<Review> findBySourcePlatformAndPlatformReviewId(Platform platform, String platformReviewId);
 
+    // 증분 수집 중복 확인: 이미 저장된 platform_review_id 만 한 번의 IN 쿼리로 조회
+    @Query("SELECT r.platformReviewId FROM Review r WHERE r.sourcePlatform = :platform "
+            + "AND r.platformReviewId IN :platformReviewIds")
+    List<String> findExistingPlatformReviewIds(Platform platform, Collection<String> platformReviewIds);
+
     List<Review> findByCafeIdAndSourcePlatform(Long cafeId, Platform platform);
+
+    // 재수집 우선순위용: 카페별 since 이후 수집된 리뷰 수 [cafeId, count]
+    @Query("SELECT r.cafe.id, COUNT(r) FROM Review r WHERE r.cafe.id IN :cafeIds AND r.crawledAt >= :since "
+            + "GROUP BY r.cafe.id")
+    List<Object[]> countCrawledSinceByCafeIdIn(Collection<Long> cafeIds, LocalDateTime since);
 }
@@ -0,0 +1,14 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.ReviewWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewWatermarkRepository extends JpaRepository<ReviewWatermark, ReviewWatermark.Key> {
+    // 수집 배치 전체의 워터마크를 한 번에 조회
+    List<ReviewWatermark> findByCafeIdIn(Collection<Long> cafeIds);
+}
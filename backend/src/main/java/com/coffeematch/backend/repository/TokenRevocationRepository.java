@@ -0,0 +1,32 @@
+package com.coffeematch.backend.repository;
+
+import com.coffeematch.backend.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+    Optional<TokenRevocation> findByRevocationKey(String revocationKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation t WHERE t.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+
+    /**
+     * 키가 없을 때만 INSERT (유니크 키 충돌 시 무시)
+     *
+     * @return 새로 INSERT 되었으면 1, 이미 있으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO token_revocation (revocation_key, revoked_at, expires_at) "
+            + "VALUES (:revocationKey, :revokedAt, :expiresAt)", nativeQuery = true)
+    int insertIfAbsent(String revocationKey, LocalDateTime revokedAt, LocalDateTime expiresAt);
+}
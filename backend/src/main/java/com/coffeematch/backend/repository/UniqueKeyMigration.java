@@ -0,0 +1,103 @@
+package com.coffeematch.backend.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * upsert / INSERT IGNORE / 중복 확인 조회가 기대는 유니크 키를 시작 시 보장
+ * - ddl-auto=update 는 기존 중복 행 때문에 ADD CONSTRAINT 가 실패해도 로그만 남기고 계속 진행하고,
+ *   그러면 ON DUPLICATE KEY UPDATE 가 갱신 대신 중복 행을 계속 추가함
+ * - 스키마 갱신(entityManagerFactory) 직후 키가 없으면 중복 행을 정리하고 키를 추가
+ * - 그래도 추가하지 못하면 예외로 기동을 중단 (조용히 중복이 쌓이는 상태로 뜨지 않음)
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class UniqueKeyMigration {
+
+    // 같은 (cafe_id, platform) 중 가장 최근에 저장된 행(id 최대)만 남김
+    private static final String DEDUPE_PLATFORM_DATA_SQL = "DELETE d FROM platform_data d JOIN platform_data k "
+            + "ON d.cafe_id = k.cafe_id AND d.platform = k.platform AND d.id < k.id";
+
+    // 같은 (source_platform, platform_id) 중 처음 저장된 카페(id 최소)만 플랫폼 id 를 유지
+    // - 나머지 카페는 리뷰/플랫폼 데이터가 참조하므로 지우지 않고 platform_id 만 비움 (NULL 은 키에서 중복 허용)
+    // - 비운 카페는 관리자 중복 후보 조회(DataNormalizationService.findDuplicates)로 정리
+    private static final String DEDUPE_CAFE_SQL = "UPDATE cafe d JOIN cafe k "
+            + "ON d.source_platform = k.source_platform AND d.platform_id = k.platform_id AND d.id > k.id "
+            + "SET d.platform_id = NULL";
+
+    // 같은 (source_platform, platform_review_id) 중 처음 저장된 행(id 최소)만 남김
+    private static final String DEDUPE_REVIEW_SQL = "DELETE d FROM review d JOIN review k "
+            + "ON d.source_platform = k.source_platform AND d.platform_review_id = k.platform_review_id "
+            + "AND d.id > k.id";
+
+    // 중복 리뷰만큼 늘어난 review_count 를 실제 행 수로 다시 계산
+    private static final String RECOUNT_REVIEWS_SQL = "UPDATE cafe c SET review_count = "
+            + "(SELECT COUNT(*) FROM review r WHERE r.cafe_id = c.id)";
+
+    // 장소 id 없이 저장된 카카오 리뷰 id 앞에 장소 id 를 붙임 (KakaoMapCrawler.reviewId 와 같은 "장소 id:해시" 형식)
+    // - 예전 id 는 다른 장소의 같은 리뷰와 겹쳐 한쪽이 저장되지 않았음
+    // - cafe.platform_id 가 상세 페이지 URL 이면 마지막 경로 조각이 장소 id
+    private static final String SCOPE_KAKAO_REVIEW_IDS_SQL = "UPDATE review r JOIN cafe c ON r.cafe_id = c.id "
+            + "SET r.platform_review_id = CONCAT(SUBSTRING_INDEX(c.platform_id, '/', -1), ':', r.platform_review_id) "
+            + "WHERE r.source_platform = 'KAKAO_MAP' AND c.platform_id IS NOT NULL "
+            + "AND r.platform_review_id NOT LIKE '%:%'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UniqueKeyMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void ensureUniqueKeys() {
+        ensureUniqueKey("cafe", "uk_cafe_source_platform_platform_id", "source_platform, platform_id",
+                DEDUPE_CAFE_SQL);
+        ensureUniqueKey("platform_data", "uk_platform_data_cafe_platform", "cafe_id, platform",
+                DEDUPE_PLATFORM_DATA_SQL);
+        int removedReviews = ensureUniqueKey("review", "uk_review_platform_review",
+                "source_platform, platform_review_id", DEDUPE_REVIEW_SQL);
+        if (removedReviews > 0) {
+            jdbcTemplate.update(RECOUNT_REVIEWS_SQL);
+        }
+        if (tableExists("review")) {
+            int scoped = jdbcTemplate.update(SCOPE_KAKAO_REVIEW_IDS_SQL);
+            if (scoped > 0) {
+                System.out.println("Prefixed " + scoped + " Kakao review id(s) with their place id");
+            }
+        }
+    }
+
+    /**
+     * @return 키를 새로 추가했으면 정리한 중복 행 수, 이미 있으면 -1
+     */
+    int ensureUniqueKey(String table, String keyName, String columns, String dedupeSql) {
+        if (!tableExists(table) || indexExists(table, keyName)) {
+            return -1;
+        }
+        int removed = jdbcTemplate.update(dedupeSql);
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + keyName + " UNIQUE (" + columns + ")");
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Could not add unique key " + keyName + " on " + table
+                    + " - remove duplicate (" + columns + ") rows manually", e);
+        }
+        System.out.println("Added unique key " + keyName + " on " + table + " after cleaning up " + removed
+                + " duplicate row(s)");
+        return removed;
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(String table, String keyName) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", Integer.class, table,
+                keyName);
+        return count != null && count > 0;
+    }
+}
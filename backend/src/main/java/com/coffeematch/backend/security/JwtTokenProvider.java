@@ -7,28 +7,42 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String ROLE_PREFIX = "ROLE_";
+
     @Value("${jwt.secret:defaultSecretKeyShouldBeLongEnoughToWorkWithSignatureAlgorithm}")
     private String secretKey;
 
-    private final long tokenValidityInMilliseconds = 1000L * 60 * 60 * 24; // 24h
+    @Value("${jwt.access-token-validity-ms:900000}")
+    private long accessTokenValidityInMilliseconds; // 15m
+
+    @Value("${jwt.refresh-token-validity-ms:1209600000}")
+    private long refreshTokenValidityInMilliseconds; // 14d
 
-    private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     private Key key;
 
-    public JwtTokenProvider(UserDetailsService userDetailsService) {
-        this.userDetailsService = userDetailsService;
+    public JwtTokenProvider(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostConstruct
@@ -39,26 +53,58 @@ public class JwtTokenProvider {
     public String createToken(String email, String role) {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("roles", List.of(role));
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        return buildToken(claims, accessTokenValidityInMilliseconds);
+    }
+
+    public String createRefreshToken(String email) {
+        Claims claims = Jwts.claims().setSubject(email);
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        return buildToken(claims, refreshTokenValidityInMilliseconds);
+    }
 
+    private String buildToken(Claims claims, long validityInMilliseconds) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public long getAccessTokenValidityInMilliseconds() {
+        return accessTokenValidityInMilliseconds;
+    }
+
+    /**
+     * 토큰의 클레임만으로 인증 객체 생성 (요청마다 사용자 DB 조회하지 않음)
+     */
+    public Authentication getAuthentication(Claims claims) {
+        Object roles = claims.get("roles");
+        Collection<? extends GrantedAuthority> authorities = roles instanceof Collection<?>
+                ? ((Collection<?>) roles).stream()
+                        .map(role -> new SimpleGrantedAuthority(toAuthority(String.valueOf(role))))
+                        .collect(Collectors.toList())
+                : List.of();
+        UserDetails userDetails = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+    }
+
+    // hasRole() 은 ROLE_ 접두사가 붙은 권한만 인정 - DB 에 접두사 없이 저장된 역할도 같은 권한으로 맞춤
+    private static String toAuthority(String role) {
+        return role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+    }
+
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return getAuthentication(parseClaims(token));
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -70,11 +116,43 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseAccessToken(token) != null;
+    }
+
+    /**
+     * 서명/만료/폐기 여부를 확인한 액세스 토큰의 클레임 (유효하지 않으면 null)
+     */
+    public Claims parseAccessToken(String token) {
+        return parseValidToken(token, ACCESS_TOKEN_TYPE);
+    }
+
+    /**
+     * 서명/만료/폐기 여부를 확인한 리프레시 토큰의 클레임 (유효하지 않으면 null)
+     */
+    public Claims parseRefreshToken(String token) {
+        return parseValidToken(token, REFRESH_TOKEN_TYPE);
+    }
+
+    /**
+     * 서명만 확인한 클레임 (로그아웃 시 폐기 대상 식별용)
+     */
+    public Claims parseClaims(String token) {
+        return Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+    }
+
+    private Claims parseValidToken(String token, String expectedType) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parseClaims(token);
+            if (!expectedType.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                return null;
+            }
+            if (tokenRevocationService.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt())) {
+                return null;
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 }
@@ -0,0 +1,186 @@
+package com.coffeematch.backend.security;
+
+import com.coffeematch.backend.entity.TokenRevocation;
+import com.coffeematch.backend.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 목록 관리
+ * - 폐기 기록은 token_revocation 테이블에 저장 (여러 인스턴스 간 공유)
+ * - 요청마다 DB를 조회하지 않도록 메모리의 블룸 필터 + 정확한 맵으로 판정
+ * - 주기적으로 테이블을 다시 읽어 다른 인스턴스의 폐기 내역을 반영하고 만료된 기록은 삭제
+ * - 재적재 중에 이 인스턴스에서 추가된 폐기는 새 스냅샷으로 교체할 때 다시 반영 (교체로 사라지지 않음)
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String SUBJECT_PREFIX = "sub:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    @Value("${jwt.refresh-token-validity-ms:1209600000}")
+    private long refreshTokenValidityInMilliseconds;
+
+    private volatile Snapshot snapshot = new Snapshot(MIN_CAPACITY);
+
+    // 스냅샷 교체와 로컬 반영을 직렬화, pending 은 진행 중인 재적재가 DB 에서 못 읽었을 수 있는 폐기
+    private final Object snapshotLock = new Object();
+    private final Map<String, Long> pending = new HashMap<>();
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+    }
+
+    @PostConstruct
+    protected void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            System.err.println("Failed to load token revocations: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (DB 조회 없음)
+     *
+     * @param tokenId  토큰 jti
+     * @param subject  토큰 subject (이메일)
+     * @param issuedAt 토큰 발급 시각
+     */
+    public boolean isRevoked(String tokenId, String subject, Date issuedAt) {
+        Snapshot current = snapshot;
+        if (tokenId != null && current.contains(TOKEN_PREFIX + tokenId)) {
+            return true;
+        }
+        if (subject != null) {
+            Long revokedBefore = current.get(SUBJECT_PREFIX + subject);
+            if (revokedBefore != null && (issuedAt == null || issuedAt.getTime() <= revokedBefore)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 하나를 만료 시각까지 폐기 (로그아웃, 리프레시 토큰 교체)
+     * - 키가 없을 때만 INSERT 하므로 같은 토큰을 동시에 폐기해도 한 요청만 성공
+     *
+     * @return 이번 호출로 폐기했으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revokeToken(String tokenId, Date expiresAt) {
+        if (tokenId == null) {
+            return false;
+        }
+        String key = TOKEN_PREFIX + tokenId;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiry = expiresAt != null ? toLocalDateTime(expiresAt.getTime())
+                : now.plus(Duration.ofMillis(refreshTokenValidityInMilliseconds));
+        boolean revoked = tokenRevocationRepository.insertIfAbsent(key, now, expiry) > 0;
+        if (revoked) {
+            applyLocally(key, now);
+        }
+        return revoked;
+    }
+
+    /**
+     * 해당 사용자에게 지금까지 발급된 모든 토큰을 폐기 (관리자 차단, 전체 로그아웃)
+     */
+    public void revokeAllForSubject(String subject) {
+        LocalDateTime now = LocalDateTime.now();
+        save(SUBJECT_PREFIX + subject, now, now.plus(Duration.ofMillis(refreshTokenValidityInMilliseconds)));
+    }
+
+    /**
+     * 만료된 기록 삭제 후 폐기 목록 재적재
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}", initialDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+        // 여기까지 저장된 폐기는 아래 findAll 에 포함되므로 이후에 저장되는 것만 따로 모음
+        synchronized (snapshotLock) {
+            pending.clear();
+        }
+        List<TokenRevocation> revocations = tokenRevocationRepository.findAll();
+
+        Snapshot next = new Snapshot(Math.max(MIN_CAPACITY, revocations.size() * 2));
+        for (TokenRevocation revocation : revocations) {
+            next.put(revocation.getRevocationKey(), toEpochMillis(revocation.getRevokedAt()));
+        }
+        synchronized (snapshotLock) {
+            pending.forEach(next::put);
+            pending.clear();
+            snapshot = next;
+        }
+    }
+
+    private void save(String key, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        TokenRevocation revocation = tokenRevocationRepository.findByRevocationKey(key)
+                .orElseGet(() -> new TokenRevocation(key, revokedAt, expiresAt));
+        revocation.setRevokedAt(revokedAt);
+        if (revocation.getExpiresAt().isBefore(expiresAt)) {
+            revocation.setExpiresAt(expiresAt);
+        }
+        tokenRevocationRepository.save(revocation);
+        applyLocally(key, revokedAt);
+    }
+
+    /**
+     * 다음 재적재를 기다리지 않고 이 인스턴스에는 즉시 반영 (DB 저장이 끝난 뒤 호출)
+     */
+    private void applyLocally(String key, LocalDateTime revokedAt) {
+        long revokedAtMillis = toEpochMillis(revokedAt);
+        synchronized (snapshotLock) {
+            snapshot.put(key, revokedAtMillis);
+            pending.put(key, revokedAtMillis);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 블룸 필터로 대부분의 정상 토큰을 바로 통과시키고, 필터에 걸린 경우만 맵을 확인
+     */
+    private static class Snapshot {
+        private final BloomFilter filter;
+        private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+        Snapshot(int capacity) {
+            this.filter = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+        }
+
+        void put(String key, long revokedAtMillis) {
+            revokedAt.put(key, revokedAtMillis);
+            filter.put(key);
+        }
+
+        boolean contains(String key) {
+            return filter.mightContain(key) && revokedAt.containsKey(key);
+        }
+
+        Long get(String key) {
+            return filter.mightContain(key) ? revokedAt.get(key) : null;
+        }
+    }
+}
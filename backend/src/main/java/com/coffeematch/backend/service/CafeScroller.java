@@ -0,0 +1,77 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Cafe;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 카페 전체 순회용 키셋 스크롤
+ * - findAll / findByXxx 처럼 전체를 List 로 올리지 않고 id 순서로 crawl.scroll.batch-size 건씩 조회
+ * - OFFSET 대신 마지막 id 이후부터 읽으므로 뒤쪽 페이지도 느려지지 않고, 순회 중 상태가 바뀐 행도 중복/누락 없음
+ * - 배치 처리 후 영속성 컨텍스트를 비워서(트랜잭션 밖에서 호출된 경우) 순회 중 힙 사용량이 늘지 않음
+ * - 배치 사이에 DB 연결을 잡고 있지 않으므로 크롤링처럼 오래 걸리는 처리에도 사용 가능
+ */
+@Component
+public class CafeScroller {
+
+    private final EntityManager entityManager;
+
+    @Value("${crawl.scroll.batch-size:500}")
+    private int batchSize;
+
+    public CafeScroller(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 조건에 맞는 카페를 배치 단위로 끝까지 (또는 action 이 false 를 반환할 때까지) 처리
+     *
+     * @param query  키셋 조회 (예: cafeRepository::findByStatusAndIdGreaterThanOrderByIdAsc 를 감싼 람다)
+     * @param action 배치 처리, false 를 반환하면 중단
+     * @return 처리한 카페 수
+     */
+    public int scroll(KeysetQuery query, BatchAction action) throws InterruptedException {
+        Pageable page = PageRequest.of(0, batchSize);
+        long afterId = 0L;
+        int processed = 0;
+        while (true) {
+            List<Cafe> batch = query.next(afterId, page);
+            if (batch.isEmpty()) {
+                return processed;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+            processed += batch.size();
+            boolean more = action.accept(batch);
+            clearIfDetached();
+            if (!more || batch.size() < batchSize) {
+                return processed;
+            }
+        }
+    }
+
+    /**
+     * 호출자 트랜잭션이 없을 때만 비움 - 트랜잭션 안이면 아직 flush 되지 않은 변경을 버리지 않도록 그대로 둠
+     * (웹 요청 스레드는 open-in-view 로 같은 EntityManager 가 요청 끝까지 유지됨)
+     */
+    private void clearIfDetached() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.clear();
+        }
+    }
+
+    @FunctionalInterface
+    public interface KeysetQuery {
+        List<Cafe> next(Long afterId, Pageable page);
+    }
+
+    @FunctionalInterface
+    public interface BatchAction {
+        boolean accept(List<Cafe> batch) throws InterruptedException;
+    }
+}
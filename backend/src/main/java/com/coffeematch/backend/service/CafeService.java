@@ -36,11 +36,16 @@ public class CafeService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final MenuRepository menuRepository;
+    private final PlatformIdIndex platformIdIndex;
+    private final CafeBulkRepository cafeBulkRepository;
+    private final RevisitStatsService revisitStatsService;
 
     public CafeService(CafeRepository cafeRepository, ReviewRepository reviewRepository, UserRepository userRepository,
             PlatformDataRepository platformDataRepository, KeywordRepository keywordRepository,
             UserKeywordVoteRepository userKeywordVoteRepository, UserCafeBookmarkRepository userCafeBookmarkRepository,
-            CafeKeywordStatRepository cafeKeywordStatRepository, MenuRepository menuRepository) {
+            CafeKeywordStatRepository cafeKeywordStatRepository, MenuRepository menuRepository,
+            PlatformIdIndex platformIdIndex, CafeBulkRepository cafeBulkRepository,
+            RevisitStatsService revisitStatsService) {
         this.cafeRepository = cafeRepository;
         this.reviewRepository = reviewRepository;
         this.userRepository = userRepository;
@@ -50,6 +55,9 @@ public class CafeService {
         this.userCafeBookmarkRepository = userCafeBookmarkRepository;
         this.cafeKeywordStatRepository = cafeKeywordStatRepository;
         this.menuRepository = menuRepository;
+        this.platformIdIndex = platformIdIndex;
+        this.cafeBulkRepository = cafeBulkRepository;
+        this.revisitStatsService = revisitStatsService;
     }
 
     public org.springframework.data.domain.Page<Cafe> getAllCafes(String keyword, int page, int size) {
@@ -234,6 +242,8 @@ public class CafeService {
 
     @Transactional
     public void deleteCafe(Long id) {
+        cafeRepository.findById(id)
+                .ifPresent(cafe -> platformIdIndex.remove(cafe.getSourcePlatform(), cafe.getPlatformId()));
         cafeRepository.deleteById(id);
     }
 
@@ -242,9 +252,22 @@ public class CafeService {
     public CafeDto createCafeFromCrawl(CrawlCafeRequestDto request) {
         // 1. Check for duplicate by platformId + sourcePlatform
         Platform platform = Platform.valueOf(request.getSourcePlatform());
-        Optional<Cafe> existingCafe = cafeRepository.findBySourcePlatformAndPlatformId(
-                platform,
-                request.getPlatformId());
+        Optional<Cafe> existingCafe = findByPlatformId(platform, request.getPlatformId());
+        String contentHash = CrawlContentHash.of(request);
+
+        if (existingCafe.isPresent()) {
+            Optional<PlatformData> existingPlatformData = platformDataRepository.findByCafeIdAndPlatform(existingCafe.get().getId(),
+                    platform);
+            // 내용이 이전 크롤링과 같으면 동기화/확인 시각만 갱신
+            if (existingPlatformData.isPresent()
+                    && contentHash.equals(existingPlatformData.get().getContentHash())) {
+                Long cafeId = existingCafe.get().getId();
+                cafeRepository.updateLastSyncedAt(cafeId, LocalDateTime.now());
+                platformDataRepository.touchLastCheckedAt(platform, List.of(cafeId), LocalDateTime.now());
+                revisitStatsService.recordVisit(cafeId, 0, LocalDateTime.now());
+                return new CafeDto(existingCafe.get());
+            }
+        }
 
         Cafe cafe;
         if (existingCafe.isPresent()) {
@@ -298,24 +321,35 @@ public class CafeService {
         }
 
         Cafe savedCafe = cafeRepository.save(cafe);
+        platformIdIndex.putAfterCommit(platform, savedCafe.getPlatformId(), savedCafe.getId());
 
-        // 2. Save or update PlatformData
-        if (request.getRawData() != null && !request.getRawData().isEmpty()) {
-            List<PlatformData> existingPlatformData = platformDataRepository.findByCafeId(savedCafe.getId());
-            PlatformData platformData = existingPlatformData.stream()
-                    .filter(pd -> pd.getPlatform() == platform)
-                    .findFirst()
-                    .orElse(new PlatformData(savedCafe, platform, request.getRawData()));
-
-            platformData.setRawData(request.getRawData());
-            platformData.setLastCheckedAt(LocalDateTime.now());
-            platformDataRepository.save(platformData);
-        }
+        // 2. Upsert PlatformData by (cafe_id, platform) - content hash is kept even when rawData is empty
+        PlatformData platformData = new PlatformData(savedCafe, platform, request.getRawData());
+        platformData.setContentHash(contentHash);
+        cafeBulkRepository.upsertPlatformData(platformData);
+        // 기존 카페는 내용 해시가 바뀐 것을 변경 1회로 기록, 신규 카페는 관측 시작
+        revisitStatsService.recordVisit(savedCafe.getId(), existingCafe.isPresent() ? 1 : 0, LocalDateTime.now());
 
         return new CafeDto(savedCafe);
     }
 
-    private String buildDescription(String category, String businessHours) {
+    /**
+     * 메모리 인덱스에 있으면 PK로 조회, 없으면 (platform, platformId) 조회
+     */
+    private Optional<Cafe> findByPlatformId(Platform platform, String platformId) {
+        Long knownId = platformIdIndex.find(platform, platformId);
+        if (knownId != null) {
+            Optional<Cafe> cafe = cafeRepository.findById(knownId);
+            if (cafe.isPresent()) {
+                return cafe;
+            }
+            // 다른 경로로 삭제된 카페 - 인덱스 정리 후 일반 조회
+            platformIdIndex.remove(platform, platformId);
+        }
+        return cafeRepository.findBySourcePlatformAndPlatformId(platform, platformId);
+    }
+
+    static String buildDescription(String category, String businessHours) {
         StringBuilder desc = new StringBuilder();
         if (category != null && !category.isEmpty()) {
             desc.append("카테고리: ").append(category);
@@ -0,0 +1,65 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.CrawlCafeRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크롤링 결과의 내용 해시 (SHA-256, hex 64자)
+ * - 카페에 반영되는 값(이름/주소/전화/좌표/카테고리/영업시간/상태/업종)과 rawData 를 정규화해서 계산
+ * - 앞뒤 공백과 빈 문자열은 null 로, 좌표는 소수점 7자리로, 맵 키는 정렬해서 직렬화
+ * - 이전 크롤링과 해시가 같으면 카페/플랫폼 데이터를 다시 쓰지 않음
+ */
+final class CrawlContentHash {
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private CrawlContentHash() {
+    }
+
+    static String of(CrawlCafeRequestDto request) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("name", normalize(request.getName()));
+        payload.put("address", normalize(request.getAddress()));
+        payload.put("phone", normalize(request.getPhone()));
+        payload.put("latitude", round(request.getLatitude()));
+        payload.put("longitude", round(request.getLongitude()));
+        payload.put("category", normalize(request.getCategory()));
+        payload.put("businessHours", normalize(request.getBusinessHours()));
+        payload.put("status", normalize(request.getStatus()));
+        payload.put("businessType", normalize(request.getBusinessType()));
+        payload.put("rawData", request.getRawData() != null && !request.getRawData().isEmpty()
+                ? request.getRawData()
+                : null);
+
+        try {
+            byte[] json = CANONICAL_MAPPER.writeValueAsBytes(payload);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid rawData: " + e.getOriginalMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static Double round(Double value) {
+        return value != null ? Math.round(value * 1e7) / 1e7 : null;
+    }
+}
@@ -0,0 +1,222 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.CrawlCafeRequestDto;
+import com.coffeematch.backend.dto.CrawlIngestItemResultDto;
+import com.coffeematch.backend.dto.CrawlIngestJobDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링 대량 적재 작업 큐
+ * - HTTP 요청은 작업 등록만 하고 바로 반환 (202 + 작업 id)
+ * - 고정 크기 워커 풀 + 제한된 대기열에서 실행, 대기열이 가득 차면 등록 거부
+ * - 진행 상황(처리/신규/갱신/변경 없음/실패 건수, 변경 비율, 처리량)과 실패 항목 상세를 작업별로 보관
+ * - 완료된 작업은 일정 시간 후 메모리에서 제거
+ */
+@Service
+public class CrawlIngestJobService {
+
+    private static final int MAX_FAILURE_DETAILS = 1000;
+
+    private final CrawlIngestService crawlIngestService;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    @Value("${crawl.ingest.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    public CrawlIngestJobService(CrawlIngestService crawlIngestService,
+            @Value("${crawl.ingest.workers:2}") int workers,
+            @Value("${crawl.ingest.queue-capacity:20}") int queueCapacity) {
+        this.crawlIngestService = crawlIngestService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "crawl-ingest-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 적재 작업 등록
+     *
+     * @param requests 크롤링 결과 목록
+     * @return 등록된 작업 상태
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우
+     */
+    public CrawlIngestJobDto submit(List<CrawlCafeRequestDto> requests) {
+        Job job = new Job(UUID.randomUUID().toString(), requests);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job.toDto();
+    }
+
+    public Optional<CrawlIngestJobDto> getJob(String id) {
+        Job job = jobs.get(id);
+        return job != null ? Optional.of(job.toDto()) : Optional.empty();
+    }
+
+    public List<CrawlIngestJobDto> getJobs() {
+        List<CrawlIngestJobDto> result = new ArrayList<>();
+        for (Job job : jobs.values()) {
+            result.add(job.toDto());
+        }
+        result.sort((a, b) -> b.getSubmittedAt().compareTo(a.getSubmittedAt()));
+        return result;
+    }
+
+    private void run(Job job) {
+        job.start();
+        try {
+            List<CrawlCafeRequestDto> requests = job.requests;
+            int chunkSize = crawlIngestService.getChunkSize();
+            for (int from = 0; from < requests.size(); from += chunkSize) {
+                List<CrawlCafeRequestDto> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+                job.record(crawlIngestService.ingestChunk(chunk, from));
+            }
+            job.finish(JobStatus.COMPLETED, null);
+        } catch (Exception e) {
+            job.finish(JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간(job-retention-minutes)이 지난 완료 작업 제거 - job-evict-interval-ms 마다
+     */
+    @Scheduled(fixedDelayString = "${crawl.ingest.job-evict-interval-ms:300000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static class Job {
+        private final String id;
+        private final int total;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<CrawlIngestItemResultDto> failures = new ArrayList<>();
+
+        // 실행이 끝나면 요청 목록 참조를 해제
+        private volatile List<CrawlCafeRequestDto> requests;
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        private long processed;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long duplicate;
+        private long failed;
+
+        Job(String id, List<CrawlCafeRequestDto> requests) {
+            this.id = id;
+            this.requests = requests;
+            this.total = requests.size();
+        }
+
+        void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = JobStatus.RUNNING;
+        }
+
+        synchronized void record(List<CrawlIngestItemResultDto> items) {
+            for (CrawlIngestItemResultDto item : items) {
+                processed++;
+                switch (item.getStatus()) {
+                    case INSERTED:
+                        inserted++;
+                        break;
+                    case UPDATED:
+                        updated++;
+                        break;
+                    case UNCHANGED:
+                        unchanged++;
+                        break;
+                    case DUPLICATE:
+                        duplicate++;
+                        break;
+                    case FAILED:
+                        failed++;
+                        if (failures.size() < MAX_FAILURE_DETAILS) {
+                            failures.add(item);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        void finish(JobStatus finalStatus, String errorMessage) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            error = errorMessage;
+            requests = null;
+            status = finalStatus;
+        }
+
+        synchronized CrawlIngestJobDto toDto() {
+            CrawlIngestJobDto dto = new CrawlIngestJobDto();
+            dto.setId(id);
+            dto.setStatus(status.name());
+            dto.setTotal(total);
+            dto.setProcessed(processed);
+            dto.setInserted(inserted);
+            dto.setUpdated(updated);
+            dto.setUnchanged(unchanged);
+            long stored = inserted + updated + unchanged;
+            dto.setChangedRatio(stored > 0 ? (double) (inserted + updated) / stored : 0);
+            dto.setDuplicate(duplicate);
+            dto.setFailed(failed);
+            dto.setSubmittedAt(submittedAt);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setError(error);
+            dto.setFailures(new ArrayList<>(failures));
+
+            if (startedAt != null) {
+                long endNanos = finishedAt != null ? finishedNanos : System.nanoTime();
+                double seconds = Duration.ofNanos(endNanos - startedNanos).toMillis() / 1000.0;
+                dto.setThroughputPerSecond(seconds > 0 ? processed / seconds : 0);
+            }
+            return dto;
+        }
+    }
+}
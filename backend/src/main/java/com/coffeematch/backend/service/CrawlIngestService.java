@@ -0,0 +1,445 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.CrawlBatchResultDto;
+import com.coffeematch.backend.dto.CrawlCafeRequestDto;
+import com.coffeematch.backend.dto.CrawlIngestItemResultDto;
+import com.coffeematch.backend.dto.CrawlIngestItemResultDto.Status;
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.CafeStatus;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.entity.PlatformData;
+import com.coffeematch.backend.repository.CafeBulkRepository;
+import com.coffeematch.backend.repository.CafeRepository;
+import com.coffeematch.backend.repository.PlatformDataRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 크롤링 카페 대량 적재 서비스
+ * - 청크 단위 트랜잭션으로 처리 (청크마다 커밋)
+ * - 청크당 (platform, platformId) 기존 여부는 메모리 인덱스 + 인덱스에 없는 것만 IN 쿼리 한 번으로 조회
+ * - INSERT / UPDATE 는 JDBC 배치로 실행
+ * - 내용 해시가 이전 크롤링과 같으면 카페/플랫폼 데이터를 다시 쓰지 않고 동기화 시각만 일괄 갱신
+ * - 청크가 실패하면 해당 청크만 항목별로 다시 처리해 실패 항목을 격리
+ * - 항목마다 변경 여부를 재방문 간격 추정(RevisitStatsService)에 기록
+ * - 스트림 적재는 청크 크기만큼 읽고 저장한 뒤 다음 청크를 읽으므로 힙 사용량이 본문 크기와 무관
+ */
+@Service
+public class CrawlIngestService {
+
+    private final CafeRepository cafeRepository;
+    private final PlatformDataRepository platformDataRepository;
+    private final CafeBulkRepository cafeBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformIdIndex platformIdIndex;
+    private final RevisitStatsService revisitStatsService;
+    private final ObjectReader requestReader;
+
+    // 스트리밍 적재 시 응답에 포함할 실패 상세 최대 개수
+    private static final int MAX_STREAM_FAILURE_DETAILS = 1000;
+
+    @Value("${crawl.ingest.chunk-size:500}")
+    private int chunkSize;
+
+    public CrawlIngestService(CafeRepository cafeRepository, PlatformDataRepository platformDataRepository,
+            CafeBulkRepository cafeBulkRepository, TransactionTemplate transactionTemplate,
+            PlatformIdIndex platformIdIndex, RevisitStatsService revisitStatsService, ObjectMapper objectMapper) {
+        this.cafeRepository = cafeRepository;
+        this.platformDataRepository = platformDataRepository;
+        this.cafeBulkRepository = cafeBulkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.platformIdIndex = platformIdIndex;
+        this.revisitStatsService = revisitStatsService;
+        this.requestReader = objectMapper.readerFor(CrawlCafeRequestDto.class);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 크롤링 카페 목록 대량 적재
+     *
+     * @param requests 크롤링 결과 목록
+     * @return 항목별 처리 결과와 집계
+     */
+    public CrawlBatchResultDto ingest(List<CrawlCafeRequestDto> requests) {
+        long startedAt = System.currentTimeMillis();
+        CrawlBatchResultDto result = new CrawlBatchResultDto();
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<CrawlCafeRequestDto> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            for (CrawlIngestItemResultDto item : ingestChunk(chunk, from)) {
+                result.add(item);
+            }
+        }
+
+        result.setElapsedMs(System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    /**
+     * CrawlCafeRequestDto 스트림 적재, gzip 이면 자동으로 해제
+     * - 본문 형식: 최상위 JSON 배열, 또는 JSON 객체를 이어 붙인 것 (NDJSON 포함 - 줄바꿈/들여쓰기는 상관없음)
+     * - 줄 단위가 아니라 Jackson 토큰 스트림으로 읽으므로 여러 줄에 걸친 객체도 그대로 처리
+     * - 청크 크기만큼 파싱 -> 저장(커밋) -> 다음 청크 파싱 순서로 진행
+     * - 저장하는 동안에는 본문을 읽지 않으므로 TCP 흐름 제어로 송신 측이 자연스럽게 대기 (backpressure)
+     * - 형식이 맞지 않는 항목(필드 타입 오류 등)은 FAILED 로 기록하고 다음 항목부터 계속
+     * - JSON 문법 오류는 다음 항목의 시작을 알 수 없으므로 FAILED 하나를 남기고 읽기를 멈춤 (앞 청크는 이미 커밋됨)
+     *
+     * @param body 요청 본문
+     * @return 집계 결과 (항목 목록에는 실패 상세만 최대 1000개 포함)
+     */
+    public CrawlBatchResultDto ingestStream(InputStream body) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        CrawlBatchResultDto result = new CrawlBatchResultDto();
+
+        List<CrawlCafeRequestDto> chunk = new ArrayList<>(chunkSize);
+        Map<Integer, String> parseErrors = new HashMap<>();
+        int chunkOffset = 0;
+        // 최상위 배열이면 배열 요소를, 아니면 최상위 값을 차례로 읽음
+        try (MappingIterator<CrawlCafeRequestDto> items = requestReader.readValues(decompressIfGzip(body))) {
+            boolean more = true;
+            while (more) {
+                // 파싱 실패 항목은 null 로 자리를 유지해 index 가 요청 순서와 맞도록 함
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    chunk.add(items.nextValue());
+                } catch (JsonParseException e) {
+                    parseErrors.put(chunk.size(), "Malformed JSON, stopped reading: " + e.getOriginalMessage());
+                    chunk.add(null);
+                    more = false;
+                } catch (JsonProcessingException e) {
+                    parseErrors.put(chunk.size(), "Invalid item: " + e.getOriginalMessage());
+                    chunk.add(null);
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    flushStreamChunk(result, chunk, chunkOffset, parseErrors);
+                    chunkOffset += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                    parseErrors.clear();
+                }
+            }
+        }
+        flushStreamChunk(result, chunk, chunkOffset, parseErrors);
+
+        result.setElapsedMs(System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    private void flushStreamChunk(CrawlBatchResultDto result, List<CrawlCafeRequestDto> chunk, int offset,
+            Map<Integer, String> parseErrors) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        for (CrawlIngestItemResultDto item : ingestChunk(chunk, offset)) {
+            String parseError = parseErrors.get(item.getIndex() - offset);
+            if (parseError != null) {
+                item.setMessage(parseError);
+            }
+            recordStreamItem(result, item);
+        }
+    }
+
+    private static void recordStreamItem(CrawlBatchResultDto result, CrawlIngestItemResultDto item) {
+        result.count(item);
+        if (item.getStatus() == Status.FAILED && result.getItems().size() < MAX_STREAM_FAILURE_DETAILS) {
+            result.getItems().add(item);
+        }
+    }
+
+    private static InputStream decompressIfGzip(InputStream body) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body, 64 * 1024);
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == 0x1f && second == 0x8b) {
+            return new GZIPInputStream(in, 64 * 1024);
+        }
+        return in;
+    }
+
+    /**
+     * 청크 하나를 하나의 트랜잭션으로 적재
+     *
+     * @param chunk  적재할 항목
+     * @param offset 전체 요청에서 청크 첫 항목의 위치 (결과 index 계산용)
+     * @return 항목별 처리 결과 (chunk 순서와 동일)
+     */
+    public List<CrawlIngestItemResultDto> ingestChunk(List<CrawlCafeRequestDto> chunk, int offset) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(chunk, offset));
+        } catch (Exception chunkError) {
+            if (chunk.size() == 1) {
+                CrawlCafeRequestDto request = chunk.get(0);
+                return Collections.singletonList(new CrawlIngestItemResultDto(offset,
+                        request != null ? request.getPlatformId() : null,
+                        request != null ? request.getName() : null, Status.FAILED, null, chunkError.getMessage()));
+            }
+            // 청크 전체가 롤백됨 - 문제 항목만 실패 처리되도록 한 건씩 재시도
+            List<CrawlIngestItemResultDto> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.addAll(ingestChunk(chunk.subList(i, i + 1), offset + i));
+            }
+            return results;
+        }
+    }
+
+    private List<CrawlIngestItemResultDto> writeChunk(List<CrawlCafeRequestDto> chunk, int offset) {
+        CrawlIngestItemResultDto[] results = new CrawlIngestItemResultDto[chunk.size()];
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 검증 + 플랫폼별 그룹핑 (같은 platformId 가 여러 번 오면 마지막 항목만 반영)
+        Map<Platform, Map<String, Integer>> latestByPlatform = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CrawlCafeRequestDto request = chunk.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results[i] = new CrawlIngestItemResultDto(offset + i,
+                        request != null ? request.getPlatformId() : null,
+                        request != null ? request.getName() : null, Status.FAILED, null, error);
+                continue;
+            }
+            Platform platform = Platform.valueOf(request.getSourcePlatform());
+            Integer previous = latestByPlatform.computeIfAbsent(platform, p -> new LinkedHashMap<>())
+                    .put(request.getPlatformId(), i);
+            if (previous != null) {
+                results[previous] = new CrawlIngestItemResultDto(offset + previous, request.getPlatformId(),
+                        chunk.get(previous).getName(), Status.DUPLICATE, null,
+                        "Superseded by item " + (offset + i));
+            }
+        }
+
+        for (Map.Entry<Platform, Map<String, Integer>> entry : latestByPlatform.entrySet()) {
+            Platform platform = entry.getKey();
+            Map<String, Integer> indexByPlatformId = entry.getValue();
+
+            // 2. 기존 카페 id 조회 - 메모리 인덱스에 없는 것만 IN 쿼리 한 번으로 확인
+            Map<String, Long> existingIds = new HashMap<>();
+            List<String> unknownIds = new ArrayList<>();
+            for (String platformId : indexByPlatformId.keySet()) {
+                Long knownId = platformIdIndex.find(platform, platformId);
+                if (knownId != null) {
+                    existingIds.put(platformId, knownId);
+                } else {
+                    unknownIds.add(platformId);
+                }
+            }
+            if (!unknownIds.isEmpty()) {
+                for (Object[] row : cafeRepository.findIdsBySourcePlatformAndPlatformIdIn(platform, unknownIds)) {
+                    existingIds.put((String) row[0], (Long) row[1]);
+                }
+            }
+
+            // 3. 기존 카페의 플랫폼 데이터 내용 해시 조회
+            Map<Long, String> contentHashes = new HashMap<>();
+            if (!existingIds.isEmpty()) {
+                for (Object[] row : platformDataRepository.findContentHashesByPlatformAndCafeIdIn(platform,
+                        existingIds.values())) {
+                    if (row[1] != null) {
+                        contentHashes.put((Long) row[0], (String) row[1]);
+                    }
+                }
+            }
+
+            // 4. INSERT / UPDATE / 변경 없음 분리
+            List<Cafe> inserts = new ArrayList<>();
+            List<Integer> insertIndexes = new ArrayList<>();
+            List<Cafe> updates = new ArrayList<>();
+            List<Integer> updateIndexes = new ArrayList<>();
+            List<Long> unchangedIds = new ArrayList<>();
+            List<Integer> unchangedIndexes = new ArrayList<>();
+            Map<Integer, String> hashByIndex = new HashMap<>();
+            for (Map.Entry<String, Integer> item : indexByPlatformId.entrySet()) {
+                int index = item.getValue();
+                CrawlCafeRequestDto request = chunk.get(index);
+                String contentHash = CrawlContentHash.of(request);
+                hashByIndex.put(index, contentHash);
+                Long existingId = existingIds.get(item.getKey());
+                if (existingId != null && contentHash.equals(contentHashes.get(existingId))) {
+                    unchangedIds.add(existingId);
+                    unchangedIndexes.add(index);
+                    continue;
+                }
+                Cafe cafe = toCafe(request, platform, now);
+                if (existingId != null) {
+                    cafe.setId(existingId);
+                    updates.add(cafe);
+                    updateIndexes.add(index);
+                } else {
+                    if (cafe.getStatus() == null) {
+                        cafe.setStatus(CafeStatus.NEW);
+                    }
+                    inserts.add(cafe);
+                    insertIndexes.add(index);
+                }
+            }
+
+            int[] updatedRows = cafeBulkRepository.updateCrawledCafes(updates);
+            for (int i = updates.size() - 1; i >= 0; i--) {
+                if (updatedRows[i] == 0) {
+                    // 인덱스에는 있지만 이미 삭제된 카페 - 신규로 등록
+                    Cafe stale = updates.remove(i);
+                    platformIdIndex.remove(platform, stale.getPlatformId());
+                    stale.setId(null);
+                    if (stale.getStatus() == null) {
+                        stale.setStatus(CafeStatus.NEW);
+                    }
+                    inserts.add(stale);
+                    insertIndexes.add(updateIndexes.remove(i));
+                }
+            }
+            cafeBulkRepository.insertCafes(inserts);
+            Map<String, Long> indexedIds = new HashMap<>();
+            for (Cafe cafe : inserts) {
+                indexedIds.put(cafe.getPlatformId(), cafe.getId());
+            }
+            for (Cafe cafe : updates) {
+                indexedIds.put(cafe.getPlatformId(), cafe.getId());
+            }
+            platformIdIndex.putAllAfterCommit(platform, indexedIds);
+
+            // 변경 없는 카페는 동기화/확인 시각만 한 번의 UPDATE 로 갱신
+            // (플랫폼 데이터 행이 있으므로 카페가 삭제되지 않았음이 보장됨)
+            if (!unchangedIds.isEmpty()) {
+                cafeRepository.touchLastSyncedAt(unchangedIds, now);
+                platformDataRepository.touchLastCheckedAt(platform, unchangedIds, now);
+            }
+
+            // 5. 플랫폼 원본 데이터 + 내용 해시 저장 (upsert 배치 한 번)
+            List<PlatformData> platformDataRows = new ArrayList<>(inserts.size() + updates.size());
+            for (int i = 0; i < inserts.size(); i++) {
+                int index = insertIndexes.get(i);
+                platformDataRows.add(toPlatformData(inserts.get(i).getId(), platform, chunk.get(index),
+                        hashByIndex.get(index), now));
+            }
+            for (int i = 0; i < updates.size(); i++) {
+                int index = updateIndexes.get(i);
+                platformDataRows.add(toPlatformData(updates.get(i).getId(), platform, chunk.get(index),
+                        hashByIndex.get(index), now));
+            }
+            cafeBulkRepository.upsertPlatformData(platformDataRows);
+
+            // 재방문 간격 추정: 내용이 바뀐 기존 카페는 변경 1회, 변경 없음은 0회, 신규는 관측 시작
+            Map<Long, Integer> changesByCafeId = new HashMap<>();
+            for (Cafe cafe : inserts) {
+                changesByCafeId.put(cafe.getId(), 0);
+            }
+            for (Cafe cafe : updates) {
+                changesByCafeId.put(cafe.getId(), 1);
+            }
+            for (Long cafeId : unchangedIds) {
+                changesByCafeId.put(cafeId, 0);
+            }
+            revisitStatsService.recordVisits(changesByCafeId, now);
+
+            // 6. 결과 기록
+            for (int i = 0; i < inserts.size(); i++) {
+                int index = insertIndexes.get(i);
+                results[index] = new CrawlIngestItemResultDto(offset + index, inserts.get(i).getPlatformId(),
+                        inserts.get(i).getName(), Status.INSERTED, inserts.get(i).getId(), null);
+            }
+            for (int i = 0; i < updates.size(); i++) {
+                int index = updateIndexes.get(i);
+                results[index] = new CrawlIngestItemResultDto(offset + index, updates.get(i).getPlatformId(),
+                        updates.get(i).getName(), Status.UPDATED, updates.get(i).getId(), null);
+            }
+            for (int i = 0; i < unchangedIds.size(); i++) {
+                int index = unchangedIndexes.get(i);
+                results[index] = new CrawlIngestItemResultDto(offset + index, chunk.get(index).getPlatformId(),
+                        chunk.get(index).getName(), Status.UNCHANGED, unchangedIds.get(i), null);
+            }
+        }
+
+        // 7. 중복 항목에는 최종 반영된 항목의 카페 id 를 기록
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].getStatus() == Status.DUPLICATE) {
+                Platform platform = Platform.valueOf(chunk.get(i).getSourcePlatform());
+                int winner = latestByPlatform.get(platform).get(chunk.get(i).getPlatformId());
+                results[i].setCafeId(results[winner].getCafeId());
+            }
+        }
+
+        List<CrawlIngestItemResultDto> list = new ArrayList<>(results.length);
+        Collections.addAll(list, results);
+        return list;
+    }
+
+    private static PlatformData toPlatformData(Long cafeId, Platform platform, CrawlCafeRequestDto request,
+            String contentHash, LocalDateTime now) {
+        Cafe cafeRef = new Cafe();
+        cafeRef.setId(cafeId);
+        PlatformData platformData = new PlatformData(cafeRef, platform, request.getRawData());
+        platformData.setContentHash(contentHash);
+        platformData.setLastCheckedAt(now);
+        return platformData;
+    }
+
+    private static String validate(CrawlCafeRequestDto request) {
+        if (request == null) {
+            return "Empty item";
+        }
+        if (request.getPlatformId() == null || request.getPlatformId().isEmpty()) {
+            return "platformId is required";
+        }
+        try {
+            Platform.valueOf(request.getSourcePlatform());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return "Unknown sourcePlatform: " + request.getSourcePlatform();
+        }
+        if (request.getStatus() != null && !request.getStatus().isEmpty()) {
+            try {
+                CafeStatus.valueOf(request.getStatus());
+            } catch (IllegalArgumentException e) {
+                return "Unknown status: " + request.getStatus();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * createCafeFromCrawl 과 같은 규칙으로 요청을 카페 값으로 변환
+     * status / businessType 이 비어 있으면 null (갱신 시 기존 값 유지)
+     */
+    private static Cafe toCafe(CrawlCafeRequestDto request, Platform platform, LocalDateTime now) {
+        Cafe cafe = new Cafe();
+        cafe.setName(request.getName());
+        cafe.setAddress(request.getAddress());
+        cafe.setPhone(request.getPhone());
+        cafe.setLatitude(request.getLatitude());
+        cafe.setLongitude(request.getLongitude());
+        cafe.setSourcePlatform(platform);
+        cafe.setPlatformId(request.getPlatformId());
+        cafe.setLastSyncedAt(now);
+        cafe.setDescription(CafeService.buildDescription(request.getCategory(), request.getBusinessHours()));
+        cafe.setStatus(request.getStatus() != null && !request.getStatus().isEmpty()
+                ? CafeStatus.valueOf(request.getStatus())
+                : null);
+        cafe.setBusinessType(request.getBusinessType() != null && !request.getBusinessType().isEmpty()
+                ? request.getBusinessType()
+                : null);
+        return cafe;
+    }
+}
@@ -1,8 +1,22 @@
 package com.coffeematch.backend.service;
 
 import com.coffeematch.backend.dto.CrawlDataDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public interface CrawlerService {
     List<CrawlDataDto> crawl(String keyword, int limit);
+
+    /**
+     * 여러 키워드 검색 (기본 구현은 순차 실행, 동시 실행을 지원하는 크롤러는 재정의)
+     */
+    default List<CrawlDataDto> crawlAll(Collection<String> keywords, int limit) {
+        List<CrawlDataDto> results = new ArrayList<>();
+        for (String keyword : keywords) {
+            results.addAll(crawl(keyword, limit));
+        }
+        return results;
+    }
 }
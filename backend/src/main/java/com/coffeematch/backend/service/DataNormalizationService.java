@@ -1,13 +1,18 @@
 package com.coffeematch.backend.service;
 
+import com.coffeematch.backend.dto.CafeDto;
 import com.coffeematch.backend.entity.Cafe;
 import com.coffeematch.backend.repository.CafeRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 데이터 정규화 서비스
@@ -136,64 +141,85 @@ public class DataNormalizationService {
         return dp[s1.length()][s2.length()];
     }
 
+    /**
+     * 관리자 중복 후보 조회 - 카페 하나의 중복 후보를 DTO 로 반환
+     */
+    @Transactional(readOnly = true)
+    public List<CafeDto> findDuplicatesOf(Long cafeId) {
+        Cafe cafe = cafeRepository.findById(cafeId).orElseThrow(() -> new RuntimeException("Cafe not found"));
+        return findDuplicates(cafe).stream().map(CafeDto::new).collect(Collectors.toList());
+    }
+
     /**
      * 중복 카페 탐지
      * - 좌표 기반 (50m 이내)
      * - 가게명 유사도 (80% 이상)
      * - 전화번호 일치
+     * - 전체 카페를 List 로 올리지 않고 비교 컬럼만 스트리밍 (엔티티가 아니므로 영속성 컨텍스트를 비울 필요 없음)
+     * - 호출하는 쪽 트랜잭션 안에서 실행, 중복으로 판정된 카페만 엔티티로 조회해서 반환
      */
+    @Transactional(readOnly = true)
     public List<Cafe> findDuplicates(Cafe newCafe) {
-        List<Cafe> duplicates = new ArrayList<>();
-        List<Cafe> allCafes = cafeRepository.findAll();
-
-        for (Cafe existing : allCafes) {
-            if (existing.getId().equals(newCafe.getId())) {
-                continue; // 자기 자신 제외
-            }
+        List<Long> duplicateIds = new ArrayList<>();
+        String newAddress = normalizeAddress(newCafe.getAddress());
+
+        try (Stream<Object[]> candidates = cafeRepository.streamDuplicateCandidates()) {
+            Iterator<Object[]> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Long id = (Long) row[0];
+                String name = (String) row[1];
+                String address = (String) row[2];
+                String phone = (String) row[3];
+                Double latitude = (Double) row[4];
+                Double longitude = (Double) row[5];
+                if (id.equals(newCafe.getId())) {
+                    continue; // 자기 자신 제외
+                }
 
-            boolean isDuplicate = false;
+                boolean isDuplicate = false;
 
-            // 1. 좌표 기반 검사
-            if (newCafe.getLatitude() != null && newCafe.getLongitude() != null &&
-                    existing.getLatitude() != null && existing.getLongitude() != null) {
+                // 1. 좌표 기반 검사
+                if (newCafe.getLatitude() != null && newCafe.getLongitude() != null &&
+                        latitude != null && longitude != null) {
 
-                double distance = calculateDistance(
-                        newCafe.getLatitude(), newCafe.getLongitude(),
-                        existing.getLatitude(), existing.getLongitude());
+                    double distance = calculateDistance(
+                            newCafe.getLatitude(), newCafe.getLongitude(),
+                            latitude, longitude);
 
-                if (distance <= DISTANCE_THRESHOLD_METERS) {
-                    // 가게명 유사도 추가 확인
-                    double similarity = calculateSimilarity(
-                            newCafe.getName(),
-                            existing.getName());
+                    if (distance <= DISTANCE_THRESHOLD_METERS) {
+                        // 가게명 유사도 추가 확인
+                        double similarity = calculateSimilarity(
+                                newCafe.getName(),
+                                name);
 
-                    if (similarity >= NAME_SIMILARITY_THRESHOLD) {
-                        isDuplicate = true;
+                        if (similarity >= NAME_SIMILARITY_THRESHOLD) {
+                            isDuplicate = true;
+                        }
                     }
                 }
-            }
 
-            // 2. 전화번호 일치
-            if (newCafe.getPhone() != null && !newCafe.getPhone().isEmpty() &&
-                    newCafe.getPhone().equals(existing.getPhone())) {
-                isDuplicate = true;
-            }
+                // 2. 전화번호 일치
+                if (newCafe.getPhone() != null && !newCafe.getPhone().isEmpty() &&
+                        newCafe.getPhone().equals(phone)) {
+                    isDuplicate = true;
+                }
 
-            // 3. 가게명 + 주소 정규화 후 완전 일치
-            String newAddress = normalizeAddress(newCafe.getAddress());
-            String existingAddress = normalizeAddress(existing.getAddress());
+                // 3. 가게명 + 주소 정규화 후 완전 일치
+                String existingAddress = normalizeAddress(address);
 
-            if (newCafe.getName().equals(existing.getName()) &&
-                    newAddress.equals(existingAddress)) {
-                isDuplicate = true;
-            }
+                if (newCafe.getName().equals(name) &&
+                        newAddress.equals(existingAddress)) {
+                    isDuplicate = true;
+                }
 
-            if (isDuplicate) {
-                duplicates.add(existing);
+                if (isDuplicate) {
+                    duplicateIds.add(id);
+                }
             }
         }
 
-        return duplicates;
+        return cafeRepository.findAllById(duplicateIds);
     }
 
     /**
@@ -1,34 +1,103 @@
 package com.coffeematch.backend.service;
 
+import com.coffeematch.backend.dto.CrawlRunDto;
+import com.coffeematch.backend.dto.GeoSweepDto;
 import com.coffeematch.backend.entity.Cafe;
 import com.coffeematch.backend.entity.CafeStatus;
+import com.coffeematch.backend.entity.CrawlRun;
+import com.coffeematch.backend.entity.CrawlRunRegion;
 import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.repository.CafeBulkRepository;
 import com.coffeematch.backend.repository.CafeRepository;
+import com.coffeematch.backend.repository.CrawlRunRegionRepository;
+import com.coffeematch.backend.repository.CrawlRunRepository;
+import com.coffeematch.backend.service.impl.KakaoGeoGridSearch;
+import com.coffeematch.backend.service.impl.KakaoMapCrawler;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * 신규 카페 탐색 서비스
  * - 플랫폼별 키워드 검색 결과와 DB 비교
  * - 새로운 platform_id 발견 시 NEW 상태로 등록
+ * - 지역 순회 대량 탐색은 crawl_run / crawl_run_region 에 지역별 체크포인트를 남기고 재개 가능
+ *   (실행 기록에는 실행 중인 인스턴스 id 와 heartbeat 를 남겨 다른 인스턴스의 실행을 중단으로 오판하지 않음)
+ * - 좌표 영역 탐색은 격자 셀 단위로 검색하고 결과가 많은 셀만 4등분 (지역명 추측 없이 빠짐없이 탐색)
  */
 @Service
 public class DiscoveryService {
 
-    private final CafeRepository cafeRepository;
+    // IN 절 하나에 넣을 platform_id 최대 개수
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
 
-    public DiscoveryService(CafeRepository cafeRepository) {
+    private final CafeRepository cafeRepository;
+    private final CafeBulkRepository cafeBulkRepository;
+    private final PlatformIdIndex platformIdIndex;
+    private final CrawlRunRepository crawlRunRepository;
+    private final CrawlRunRegionRepository crawlRunRegionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final KakaoGeoGridSearch geoGridSearch;
+    private final KakaoMapCrawler kakaoMapCrawler;
+
+    @Value("${crawl.kakao.grid.persist-chunk-size:500}")
+    private int gridPersistChunkSize;
+
+    @Value("${crawl.discovery.run-stale-after-ms:600000}")
+    private long runStaleAfterMs;
+
+    // 이 프로세스가 실행 중인 crawl_run 표시용
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 대량 탐색은 한 번에 하나씩 (같은 사이트에 동시에 여러 순회를 돌리지 않음)
+    private final ExecutorService runExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "discovery-run");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DiscoveryService(CafeRepository cafeRepository, CafeBulkRepository cafeBulkRepository,
+            PlatformIdIndex platformIdIndex, CrawlRunRepository crawlRunRepository,
+            CrawlRunRegionRepository crawlRunRegionRepository,
+            TransactionTemplate transactionTemplate, KakaoGeoGridSearch geoGridSearch,
+            KakaoMapCrawler kakaoMapCrawler) {
         this.cafeRepository = cafeRepository;
+        this.cafeBulkRepository = cafeBulkRepository;
+        this.platformIdIndex = platformIdIndex;
+        this.crawlRunRepository = crawlRunRepository;
+        this.crawlRunRegionRepository = crawlRunRegionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.geoGridSearch = geoGridSearch;
+        this.kakaoMapCrawler = kakaoMapCrawler;
     }
 
     /**
      * 특정 플랫폼에서 수집한 카페 목록을 DB와 비교하여 신규 카페 탐색
+     * - 메모리 인덱스(PlatformIdIndex)에 있는 platform_id 는 DB 조회 없이 기존 카페로 보고,
+     *   인덱스에 없는 것만 platform_id IN 조회로 확인 (조회 결과로 인덱스도 갱신)
+     * - 신규 카페는 JDBC 배치 INSERT 한 번, 기존 카페는 last_synced_at 일괄 UPDATE 한 번
+     * - UPDATE 된 행 수가 모자라면 인덱스에 삭제된 카페가 남은 것이므로 인덱스 항목만 DB 로 다시 확인하고
+     *   없는 카페는 인덱스에서 지우고 신규로 등록
+     * - 같은 platform_id 가 여러 번 오면 처음 항목만 사용
      * 
      * @param platform     플랫폼 (KAKAO_MAP, NAVER_MAP, etc.)
      * @param crawledCafes 크롤링으로 수집한 카페 정보 리스트
@@ -36,90 +105,348 @@ public class DiscoveryService {
      */
     @Transactional
     public List<Cafe> discoverNewCafes(Platform platform, List<CrawledCafeData> crawledCafes) {
-        List<Cafe> newCafes = new ArrayList<>();
-
+        Map<String, CrawledCafeData> byPlatformId = new LinkedHashMap<>();
         for (CrawledCafeData crawledData : crawledCafes) {
-            // DB에 해당 platform_id가 존재하는지 확인
-            Optional<Cafe> existing = cafeRepository.findBySourcePlatformAndPlatformId(
-                    platform,
-                    crawledData.getPlatformId());
-
-            if (existing.isEmpty()) {
-                // 새로운 카페 발견
-                Cafe newCafe = new Cafe();
-                newCafe.setName(crawledData.getName());
-                newCafe.setAddress(crawledData.getAddress());
-                newCafe.setPhone(crawledData.getPhone());
-                newCafe.setSourcePlatform(platform);
-                newCafe.setPlatformId(crawledData.getPlatformId());
-                newCafe.setStatus(CafeStatus.NEW);
-                newCafe.setLatitude(crawledData.getLatitude());
-                newCafe.setLongitude(crawledData.getLongitude());
-                newCafe.setLastSyncedAt(LocalDateTime.now());
-
-                Cafe saved = cafeRepository.save(newCafe);
-                newCafes.add(saved);
+            if (crawledData.getPlatformId() != null) {
+                byPlatformId.putIfAbsent(crawledData.getPlatformId(), crawledData);
+            }
+        }
+        if (byPlatformId.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 1. 기존 카페 id 조회 - 인덱스에 없는 platform_id 만 DB 로 확인
+        Map<String, Long> indexedIds = new HashMap<>();
+        List<String> unknownIds = new ArrayList<>();
+        for (String platformId : byPlatformId.keySet()) {
+            Long knownId = platformIdIndex.find(platform, platformId);
+            if (knownId != null) {
+                indexedIds.put(platformId, knownId);
             } else {
-                // 기존 카페 - last_synced_at만 업데이트
-                Cafe cafe = existing.get();
-                cafe.setLastSyncedAt(LocalDateTime.now());
-                cafeRepository.save(cafe);
+                unknownIds.add(platformId);
+            }
+        }
+        Map<String, Long> existingIds = findExistingIds(platform, unknownIds);
+
+        // 2. 기존 카페는 last_synced_at 만 일괄 갱신, 갱신 행 수가 모자라면 인덱스 항목을 DB 로 다시 확인
+        LocalDateTime now = LocalDateTime.now();
+        int touched = touchLastSyncedAt(existingIds.values(), now) + touchLastSyncedAt(indexedIds.values(), now);
+        if (touched < existingIds.size() + indexedIds.size()) {
+            Map<String, Long> confirmedIds = findExistingIds(platform, new ArrayList<>(indexedIds.keySet()));
+            List<Long> movedIds = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : indexedIds.entrySet()) {
+                Long confirmedId = confirmedIds.get(entry.getKey());
+                if (confirmedId == null) {
+                    platformIdIndex.remove(platform, entry.getKey()); // 삭제된 카페 - 신규로 등록
+                } else if (!confirmedId.equals(entry.getValue())) {
+                    movedIds.add(confirmedId); // 다른 인스턴스가 다시 등록한 카페 - 아직 갱신되지 않음
+                }
+            }
+            touchLastSyncedAt(movedIds, now);
+            indexedIds = confirmedIds;
+        }
+        existingIds.putAll(indexedIds);
+
+        // 3. 신규 카페 배치 INSERT
+        List<Cafe> newCafes = new ArrayList<>();
+        for (Map.Entry<String, CrawledCafeData> entry : byPlatformId.entrySet()) {
+            if (existingIds.containsKey(entry.getKey())) {
+                continue;
             }
+            CrawledCafeData crawledData = entry.getValue();
+            Cafe newCafe = new Cafe();
+            newCafe.setName(crawledData.getName());
+            newCafe.setAddress(crawledData.getAddress());
+            newCafe.setPhone(crawledData.getPhone());
+            newCafe.setSourcePlatform(platform);
+            newCafe.setPlatformId(crawledData.getPlatformId());
+            newCafe.setStatus(CafeStatus.NEW);
+            newCafe.setLatitude(crawledData.getLatitude());
+            newCafe.setLongitude(crawledData.getLongitude());
+            newCafe.setLastSyncedAt(now);
+            newCafes.add(newCafe);
         }
+        cafeBulkRepository.insertCafes(newCafes);
 
+        for (Cafe cafe : newCafes) {
+            existingIds.put(cafe.getPlatformId(), cafe.getId());
+        }
+        platformIdIndex.putAllAfterCommit(platform, existingIds);
         return newCafes;
     }
 
     /**
-     * 지역별 키워드 검색을 통한 대량 탐색
+     * platform_id 목록 중 DB 에 있는 카페의 id (IN 절은 LOOKUP_CHUNK_SIZE 단위)
+     */
+    private Map<String, Long> findExistingIds(Platform platform, List<String> platformIds) {
+        Map<String, Long> existingIds = new HashMap<>();
+        for (int from = 0; from < platformIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            for (Object[] row : cafeRepository.findIdsBySourcePlatformAndPlatformIdIn(platform,
+                    platformIds.subList(from, Math.min(platformIds.size(), from + LOOKUP_CHUNK_SIZE)))) {
+                existingIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+        return existingIds;
+    }
+
+    private int touchLastSyncedAt(Collection<Long> cafeIds, LocalDateTime now) {
+        List<Long> ids = new ArrayList<>(cafeIds);
+        int touched = 0;
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            touched += cafeRepository.touchLastSyncedAt(ids.subList(from, Math.min(ids.size(), from + LOOKUP_CHUNK_SIZE)),
+                    now);
+        }
+        return touched;
+    }
+
+    /**
+     * 지역별 키워드 검색을 통한 탐색 - 검색은 트랜잭션 밖에서 끝내고 등록만 트랜잭션으로
      * 
      * @param platform 플랫폼
      * @param region   지역명 (예: "성수동", "강남구")
      * @param keyword  키워드 (예: "카페", "베이커리")
      * @return 신규 발견된 카페 수
+     * @throws UnsupportedOperationException 지역명 탐색을 지원하지 않는 플랫폼
      */
-    @Transactional
-    public int discoverByRegion(Platform platform, String region, String keyword) {
-        // 실제 구현 시 크롤러 서비스 호출
-        // 예: KakaoMapCrawler.crawlDetail(region + " " + keyword, limit)
+    public int discoverByRegion(Platform platform, String region, String keyword) throws Exception {
+        List<CrawledCafeData> places = searchRegion(platform, region, keyword);
+        return transactionTemplate.execute(status -> discoverNewCafes(platform, places).size());
+    }
+
+    /**
+     * 지역명 검색 - 카카오맵 키워드 검색만 연결됨 (좌표 영역 전체 탐색은 discoverByGrid 사용)
+     */
+    private List<CrawledCafeData> searchRegion(Platform platform, String region, String keyword) throws Exception {
+        if (platform != Platform.KAKAO_MAP) {
+            throw new UnsupportedOperationException("Region discovery is not supported for " + platform
+                    + ", use grid discovery (POST /api/admin/discovery/grid)");
+        }
+        return kakaoMapCrawler.searchRegion(region, keyword);
+    }
 
-        // 임시 구현 - 실제로는 크롤러에서 데이터를 가져와야 함
-        List<CrawledCafeData> crawledData = new ArrayList<>();
-        // TODO: 크롤러 통합
+    /**
+     * 좌표 영역을 격자로 나눠 카카오맵 카페 전체 탐색
+     * - 검색은 트랜잭션 밖에서 끝내고, 결과는 청크마다 별도 트랜잭션으로 등록
+     *
+     * @param bounds 탐색 영역 (위경도 사각형)
+     * @return 요청/분할 통계와 신규 카페 수
+     */
+    public GeoSweepDto discoverByGrid(KakaoGeoGridSearch.GeoCell bounds) throws InterruptedException {
+        long started = System.currentTimeMillis();
+        KakaoGeoGridSearch.SweepResult sweep = geoGridSearch.sweep(bounds);
+
+        List<CrawledCafeData> places = sweep.getPlaces();
+        int newCafes = 0;
+        for (int from = 0; from < places.size(); from += gridPersistChunkSize) {
+            List<CrawledCafeData> chunk = places.subList(from, Math.min(places.size(), from + gridPersistChunkSize));
+            newCafes += transactionTemplate.execute(status -> discoverNewCafes(Platform.KAKAO_MAP, chunk).size());
+        }
 
-        List<Cafe> newCafes = discoverNewCafes(platform, crawledData);
-        return newCafes.size();
+        GeoSweepDto dto = new GeoSweepDto();
+        dto.setCellsSearched(sweep.getCellsSearched());
+        dto.setCellsSplit(sweep.getCellsSplit());
+        dto.setTruncatedCells(sweep.getTruncatedCells());
+        dto.setFailedCells(sweep.getFailedCells());
+        dto.setFailedCellRects(sweep.getFailedCellRects());
+        dto.setRequests(sweep.getRequests());
+        dto.setPlacesFound(places.size());
+        dto.setNewCafes(newCafes);
+        dto.setElapsedMs(System.currentTimeMillis() - started);
+        return dto;
     }
 
     /**
-     * 모든 행정구역에 대해 순회하며 신규 카페 탐색
+     * 모든 행정구역에 대해 순회하며 신규 카페 탐색 (호출 스레드에서 끝까지 실행)
+     * - 실행 기록과 지역 목록을 먼저 저장하고 지역마다 별도 트랜잭션으로 커밋
+     * - 중간에 중단되면 resumeBulkDiscovery 로 남은 지역부터 이어서 실행
      * 
      * @param platform 플랫폼
      * @param regions  행정구역 목록
      * @param keyword  검색 키워드
-     * @return 총 발견된 신규 카페 수
+     * @return 총 발견된 신규 카페 수 (이전 실행분 포함)
      */
-    @Transactional
     public int bulkDiscovery(Platform platform, List<String> regions, String keyword) {
-        int totalNew = 0;
+        CrawlRun run = createRun(platform, regions, keyword);
+        return runRegions(run.getId(), platform, keyword);
+    }
 
-        for (String region : regions) {
-            try {
-                int newCount = discoverByRegion(platform, region, keyword);
-                totalNew += newCount;
+    /**
+     * 대량 탐색을 백그라운드에서 시작
+     *
+     * @return 저장된 실행 기록 (진행 상황은 getRun 으로 조회)
+     */
+    public CrawlRunDto startBulkDiscovery(Platform platform, List<String> regions, String keyword) {
+        CrawlRun run = createRun(platform, regions, keyword);
+        runExecutor.execute(() -> runRegions(run.getId(), platform, keyword));
+        return toDto(run, null);
+    }
+
+    /**
+     * 중단/실패한 실행을 백그라운드에서 재개 - DONE 지역은 건너뛰고 PENDING/FAILED 지역만 실행
+     *
+     * @throws IllegalStateException 이미 실행 중이거나 완료된 경우
+     */
+    public CrawlRunDto resumeBulkDiscovery(Long runId) {
+        CrawlRun run = crawlRunRepository.findById(runId)
+                .orElseThrow(() -> new RuntimeException("Crawl run not found"));
+        if (crawlRunRepository.markRunning(runId, CrawlRun.Status.RUNNING, CrawlRun.Status.COMPLETED, instanceId,
+                LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Crawl run " + runId + " is " + run.getStatus());
+        }
+        runExecutor.execute(() -> runRegions(runId, run.getPlatform(), run.getKeyword()));
+        run.setStatus(CrawlRun.Status.RUNNING);
+        return toDto(run, null);
+    }
+
+    public List<CrawlRunDto> getRuns() {
+        return crawlRunRepository.findTop50ByOrderByIdDesc().stream()
+                .map(run -> toDto(run, null))
+                .collect(Collectors.toList());
+    }
+
+    public Optional<CrawlRunDto> getRun(Long runId) {
+        return crawlRunRepository.findById(runId)
+                .map(run -> toDto(run, crawlRunRegionRepository.findByRunIdOrderBySeq(runId)));
+    }
+
+    /**
+     * 멈춘 실행을 재개할 수 있게 표시 - 기동 시와 주기적으로 확인
+     * - 다른 인스턴스(이전 프로세스 포함)가 RUNNING 으로 남긴 기록 중
+     *   heartbeat 가 crawl.discovery.run-stale-after-ms 넘게 없는 것만 INTERRUPTED 로 바꿈
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${crawl.discovery.run-stale-after-ms:600000}",
+            initialDelayString = "${crawl.discovery.run-stale-after-ms:600000}")
+    public void markInterruptedRuns() {
+        LocalDateTime now = LocalDateTime.now();
+        int interrupted = crawlRunRepository.markInterrupted(CrawlRun.Status.RUNNING, CrawlRun.Status.INTERRUPTED,
+                instanceId, now.minus(Duration.ofMillis(runStaleAfterMs)), now);
+        if (interrupted > 0) {
+            System.out.println("Marked " + interrupted + " crawl run(s) as INTERRUPTED, resume via /api/admin/discovery/runs/{id}/resume");
+        }
+    }
 
-                // Anti-bot: 지역간 랜덤 지연
-                Thread.sleep((long) (2000 + Math.random() * 3000));
+    @PreDestroy
+    public void shutdown() {
+        runExecutor.shutdownNow();
+    }
+
+    private CrawlRun createRun(Platform platform, List<String> regions, String keyword) {
+        return transactionTemplate.execute(status -> {
+            CrawlRun newRun = new CrawlRun(platform, keyword, regions.size());
+            newRun.setOwnerId(instanceId);
+            CrawlRun run = crawlRunRepository.save(newRun);
+            List<CrawlRunRegion> checkpoints = new ArrayList<>(regions.size());
+            for (int i = 0; i < regions.size(); i++) {
+                checkpoints.add(new CrawlRunRegion(run.getId(), i, regions.get(i)));
+            }
+            crawlRunRegionRepository.saveAll(checkpoints);
+            return run;
+        });
+    }
+
+    /**
+     * 남은 지역 순회 - 지역 탐색 결과와 체크포인트를 지역마다 한 트랜잭션으로 커밋
+     * 검색과 지역 사이 대기(anti-bot)는 트랜잭션 밖에서 하므로 커넥션을 잡고 있지 않음
+     */
+    int runRegions(Long runId, Platform platform, String keyword) {
+        boolean interrupted = false;
+        boolean first = true;
+        for (CrawlRunRegion region : crawlRunRegionRepository.findByRunIdAndStatusNotOrderBySeq(runId,
+                CrawlRunRegion.Status.DONE)) {
+            if (!first) {
+                try {
+                    // Anti-bot: 지역간 랜덤 지연
+                    Thread.sleep((long) (2000 + Math.random() * 3000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                    break;
+                }
+            }
+            first = false;
+
+            int attempts = region.getAttempts() + 1;
+            try {
+                List<CrawledCafeData> places = searchRegion(platform, region.getRegion(), keyword);
+                transactionTemplate.executeWithoutResult(status -> {
+                    int newCount = discoverNewCafes(platform, places).size();
+                    LocalDateTime now = LocalDateTime.now();
+                    region.setStatus(CrawlRunRegion.Status.DONE);
+                    region.setNewCafes(newCount);
+                    region.setAttempts(attempts);
+                    region.setLastError(null);
+                    region.setFinishedAt(now);
+                    crawlRunRegionRepository.save(region);
+                    crawlRunRepository.addCompletedRegion(runId, newCount, now);
+                });
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                interrupted = true;
                 break;
             } catch (Exception e) {
-                // 로그 기록 후 계속 진행
-                System.err.println("Error discovering in " + region + ": " + e.getMessage());
+                // 로그 기록 후 계속 진행 - 실패 지역은 재개 시 다시 실행
+                System.err.println("Error discovering in " + region.getRegion() + ": " + e.getMessage());
+                region.setStatus(CrawlRunRegion.Status.FAILED);
+                region.setAttempts(attempts);
+                region.setLastError(truncate(e.getMessage(), 500));
+                crawlRunRegionRepository.save(region);
+                crawlRunRepository.heartbeat(runId, LocalDateTime.now());
+                if (e instanceof UnsupportedOperationException) {
+                    break; // 나머지 지역도 같은 이유로 실패하므로 PENDING 으로 두고 종료
+                }
             }
         }
+        return finishRun(runId, interrupted);
+    }
+
+    private int finishRun(Long runId, boolean interrupted) {
+        CrawlRun run = crawlRunRepository.findById(runId)
+                .orElseThrow(() -> new RuntimeException("Crawl run not found"));
+        long done = crawlRunRegionRepository.countByRunIdAndStatus(runId, CrawlRunRegion.Status.DONE);
+        if (interrupted) {
+            run.setStatus(CrawlRun.Status.INTERRUPTED);
+        } else {
+            run.setStatus(done == run.getTotalRegions() ? CrawlRun.Status.COMPLETED : CrawlRun.Status.FAILED);
+            run.setFinishedAt(LocalDateTime.now());
+        }
+        run.setUpdatedAt(LocalDateTime.now());
+        crawlRunRepository.save(run);
+        return run.getNewCafes();
+    }
 
-        return totalNew;
+    private CrawlRunDto toDto(CrawlRun run, List<CrawlRunRegion> regions) {
+        CrawlRunDto dto = new CrawlRunDto();
+        dto.setId(run.getId());
+        dto.setPlatform(run.getPlatform().name());
+        dto.setKeyword(run.getKeyword());
+        dto.setStatus(run.getStatus().name());
+        dto.setTotalRegions(run.getTotalRegions());
+        dto.setCompletedRegions(run.getCompletedRegions());
+        dto.setNewCafes(run.getNewCafes());
+        dto.setCreatedAt(run.getCreatedAt());
+        dto.setUpdatedAt(run.getUpdatedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        if (regions != null) {
+            dto.setRegions(regions.stream().map(region -> {
+                CrawlRunDto.Region r = new CrawlRunDto.Region();
+                r.setRegion(region.getRegion());
+                r.setStatus(region.getStatus().name());
+                r.setNewCafes(region.getNewCafes());
+                r.setAttempts(region.getAttempts());
+                r.setLastError(region.getLastError());
+                r.setFinishedAt(region.getFinishedAt());
+                return r;
+            }).collect(Collectors.toList()));
+        }
+        return dto;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
     }
 
     /**
@@ -2,176 +2,190 @@ package com.coffeematch.backend.service;
 
 import com.coffeematch.backend.entity.Cafe;
 import com.coffeematch.backend.entity.Platform;
-import com.coffeematch.backend.entity.Review;
+import com.coffeematch.backend.entity.ReviewWatermark;
 import com.coffeematch.backend.repository.CafeRepository;
 import com.coffeematch.backend.repository.ReviewRepository;
+import com.coffeematch.backend.repository.ReviewWatermarkRepository;
+import com.coffeematch.backend.service.impl.CrawlFetchExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 증분 업데이트 서비스
- * - 카페별 최신 리뷰 날짜 기준으로 새 리뷰만 수집
+ * - 카페별 최신 리뷰 날짜(review_watermark) 기준으로 새 리뷰만 수집
  * - 중복 방지 및 효율적인 크롤링
+ * - 수집 결과(새 리뷰 수)로 카페별 변경률과 다음 재수집 시각을 갱신
+ * - 크롤링은 트랜잭션 밖에서 동시에, 저장은 ReviewPersistenceService 에서 카페마다 짧은 트랜잭션으로
  */
 @Service
 public class IncrementalUpdateService {
 
     private final CafeRepository cafeRepository;
     private final ReviewRepository reviewRepository;
-
-    public IncrementalUpdateService(CafeRepository cafeRepository, ReviewRepository reviewRepository) {
+    private final RecrawlPlanner recrawlPlanner;
+    private final ReviewPersistenceService reviewPersistenceService;
+    private final CrawlFetchExecutor crawlFetchExecutor;
+    private final ReviewWatermarkRepository reviewWatermarkRepository;
+    private final CafeScroller cafeScroller;
+    private final Map<Platform, ReviewCrawler> reviewCrawlers = new EnumMap<>(Platform.class);
+
+    @Value("${crawl.reviews.fetch-concurrency:4}")
+    private int fetchConcurrency;
+
+    public IncrementalUpdateService(CafeRepository cafeRepository, ReviewRepository reviewRepository,
+            RecrawlPlanner recrawlPlanner, ReviewPersistenceService reviewPersistenceService,
+            CrawlFetchExecutor crawlFetchExecutor, ReviewWatermarkRepository reviewWatermarkRepository,
+            CafeScroller cafeScroller, List<ReviewCrawler> reviewCrawlers) {
         this.cafeRepository = cafeRepository;
         this.reviewRepository = reviewRepository;
+        this.recrawlPlanner = recrawlPlanner;
+        this.reviewPersistenceService = reviewPersistenceService;
+        this.crawlFetchExecutor = crawlFetchExecutor;
+        this.reviewWatermarkRepository = reviewWatermarkRepository;
+        this.cafeScroller = cafeScroller;
+        for (ReviewCrawler reviewCrawler : reviewCrawlers) {
+            this.reviewCrawlers.put(reviewCrawler.getPlatform(), reviewCrawler);
+        }
     }
 
     /**
-     * 특정 카페의 최신 리뷰 날짜 조회
+     * 특정 카페의 최신 리뷰 날짜 조회 (워터마크가 없을 때만 review 테이블에서 계산)
      * 
      * @param cafeId   카페 ID
      * @param platform 플랫폼
      * @return 최신 리뷰 날짜 (없으면 null)
      */
     public LocalDateTime getLatestReviewDate(Long cafeId, Platform platform) {
+        Optional<ReviewWatermark> watermark = reviewWatermarkRepository
+                .findById(new ReviewWatermark.Key(cafeId, platform));
+        if (watermark.isPresent()) {
+            return watermark.get().getLatestReviewAt();
+        }
         Optional<LocalDateTime> latest = reviewRepository.findLatestReviewDateByCafeAndPlatform(cafeId, platform);
         return latest.orElse(null);
     }
 
     /**
-     * 신규 리뷰만 수집하여 저장
+     * 신규 리뷰만 저장 (카페 하나, 자체 트랜잭션)
      * 
      * @param cafe           카페
      * @param crawledReviews 크롤링된 리뷰 목록
      * @return 새로 저장된 리뷰 수
      */
-    @Transactional
     public int saveNewReviews(Cafe cafe, List<CrawledReviewData> crawledReviews) {
-        int savedCount = 0;
-
-        // 최신 리뷰 날짜 조회
-        LocalDateTime latestDate = getLatestReviewDate(cafe.getId(), cafe.getSourcePlatform());
-
-        for (CrawledReviewData crawledData : crawledReviews) {
-            // 중복 체크 - platform_review_id로 확인
-            Optional<Review> existing = reviewRepository.findBySourcePlatformAndPlatformReviewId(
-                    cafe.getSourcePlatform(),
-                    crawledData.getPlatformReviewId());
-
-            if (existing.isPresent()) {
-                continue; // 이미 존재하는 리뷰
-            }
-
-            // 날짜 필터링 (선택적)
-            if (latestDate != null && crawledData.getReviewDate() != null) {
-                if (crawledData.getReviewDate().isBefore(latestDate)) {
-                    continue; // 이미 수집된 리뷰보다 오래됨
-                }
-            }
-
-            // 새 리뷰 저장
-            Review review = new Review();
-            review.setCafe(cafe);
-            review.setAuthor(crawledData.getReviewerNickname());
-            review.setRating(crawledData.getRating());
-            review.setContent(crawledData.getContent());
-            review.setCreatedAt(crawledData.getReviewDate());
-            review.setImageUrl(crawledData.getImageUrl());
-            review.setSourcePlatform(cafe.getSourcePlatform());
-            review.setPlatformReviewId(crawledData.getPlatformReviewId());
-            review.setCrawledAt(LocalDateTime.now());
-
-            reviewRepository.save(review);
-            savedCount++;
-        }
-
-        // 카페의 last_synced_at 업데이트
-        cafe.setLastSyncedAt(LocalDateTime.now());
-        cafeRepository.save(cafe);
-
-        return savedCount;
+        return reviewPersistenceService.saveNewReviews(cafe, crawledReviews);
     }
 
     /**
      * 플랫폼의 모든 카페에 대해 증분 리뷰 수집
+     * - 전체 목록을 한 번에 올리지 않고 CafeScroller 배치 단위로 수집
      * 
      * @param platform 플랫폼
      * @return 수집된 총 리뷰 수
      */
-    @Transactional
     public int collectNewReviewsForAllCafes(Platform platform) {
-        List<Cafe> cafes = cafeRepository.findBySourcePlatform(platform);
-        int totalReviews = 0;
-
-        for (Cafe cafe : cafes) {
-            try {
-                // TODO: 실제 크롤러 호출
-                // List<CrawledReviewData> reviews =
-                // crawlerService.getReviews(cafe.getPlatformId());
-                List<CrawledReviewData> reviews = new ArrayList<>();
-
-                int saved = saveNewReviews(cafe, reviews);
-                totalReviews += saved;
-
-                // Anti-bot: 카페간 지연
-                Thread.sleep((long) (1000 + Math.random() * 2000));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                System.err.println("Error collecting reviews for cafe " + cafe.getId() + ": " + e.getMessage());
-            }
+        int[] totalReviews = { 0 };
+        try {
+            cafeScroller.scroll(
+                    (afterId, page) -> cafeRepository.findBySourcePlatformAndIdGreaterThanOrderByIdAsc(platform,
+                            afterId, page),
+                    batch -> {
+                        totalReviews[0] += collectReviews(batch);
+                        return !Thread.currentThread().isInterrupted();
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
-        return totalReviews;
+        return totalReviews[0];
     }
 
     /**
-     * 오래된 카페 우선 리뷰 수집 (last_synced_at 기준)
+     * 재수집 예정 시각이 지난 카페 우선 리뷰 수집 (RecrawlPlanner 순서)
+     * - 변경률 추정치가 있는 카페는 다음 예정 시각 기준, 아직 없는 카페는 daysOld 기준 점수 순으로 채움
      * 
      * @param platform 플랫폼
      * @param daysOld  며칠 이상 업데이트되지 않은 카페
      * @param limit    수집할 카페 수 제한
      * @return 수집된 총 리뷰 수
      */
-    @Transactional
     public int collectReviewsForOldCafes(Platform platform, int daysOld, int limit) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(daysOld);
-        List<Cafe> oldCafes = cafeRepository.findByLastSyncedAtBefore(threshold);
-
-        int totalReviews = 0;
-        int count = 0;
+        return collectReviews(recrawlPlanner.nextRecrawlBatch(platform, threshold, limit));
+    }
 
-        for (Cafe cafe : oldCafes) {
-            if (!cafe.getSourcePlatform().equals(platform)) {
-                continue;
+    /**
+     * 카페별 리뷰 수집 파이프라인
+     * - 크롤링은 트랜잭션 밖에서 최대 fetch-concurrency 개씩 동시에 실행 (요청 간격은 크롤러의 호스트별 제한이 담당)
+     * - 크롤링이 끝난 카페부터 호출 스레드에서 카페마다 짧은 트랜잭션으로 저장
+     * 
+     * @param cafes 수집할 카페 (우선순위 순)
+     * @return 수집된 총 리뷰 수
+     */
+    public int collectReviews(List<Cafe> cafes) {
+        List<Cafe> supported = new ArrayList<>(cafes.size());
+        for (Cafe cafe : cafes) {
+            if (reviewCrawlers.containsKey(cafe.getSourcePlatform()) && cafe.getPlatformId() != null) {
+                supported.add(cafe);
             }
+        }
+        if (supported.size() < cafes.size()) {
+            System.err.println("No review crawler for " + (cafes.size() - supported.size()) + " cafe(s), skipped");
+        }
 
-            if (count >= limit) {
-                break;
+        // 배치 전체의 리뷰 워터마크를 한 번에 조회
+        Map<ReviewWatermark.Key, ReviewWatermark> watermarks = new HashMap<>();
+        if (!supported.isEmpty()) {
+            for (ReviewWatermark watermark : reviewWatermarkRepository
+                    .findByCafeIdIn(supported.stream().map(Cafe::getId).collect(Collectors.toList()))) {
+                watermarks.put(new ReviewWatermark.Key(watermark.getCafeId(), watermark.getPlatform()), watermark);
             }
+        }
 
-            try {
-                // TODO: 크롤러 호출
-                List<CrawledReviewData> reviews = new ArrayList<>();
+        int[] totalReviews = { 0 };
+        try {
+            crawlFetchExecutor.fetchAll(supported, fetchConcurrency,
+                    cafe -> {
+                        // 워터마크 이후 리뷰만 - 크롤러가 오래된 리뷰 페이지에 도달하면 중단
+                        ReviewWatermark watermark = watermarks
+                                .get(new ReviewWatermark.Key(cafe.getId(), cafe.getSourcePlatform()));
+                        return new FetchedReviews(cafe, reviewCrawlers.get(cafe.getSourcePlatform())
+                                .fetchReviews(cafe.getPlatformId(),
+                                        watermark != null ? watermark.getLatestReviewAt() : null));
+                    },
+                    fetched -> {
+                        try {
+                            ReviewWatermark watermark = watermarks.get(
+                                    new ReviewWatermark.Key(fetched.cafe.getId(), fetched.cafe.getSourcePlatform()));
+                            totalReviews[0] += reviewPersistenceService.saveNewReviews(fetched.cafe, fetched.reviews,
+                                    watermark);
+                        } catch (Exception e) {
+                            System.err.println("Error collecting reviews for cafe " + fetched.cafe.getId() + ": "
+                                    + e.getMessage());
+                        }
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return totalReviews[0];
+    }
 
-                int saved = saveNewReviews(cafe, reviews);
-                totalReviews += saved;
-                count++;
+    private static class FetchedReviews {
+        private final Cafe cafe;
+        private final List<CrawledReviewData> reviews;
 
-                Thread.sleep((long) (1000 + Math.random() * 2000));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                System.err.println("Error collecting reviews for cafe " + cafe.getId() + ": " + e.getMessage());
-            }
+        FetchedReviews(Cafe cafe, List<CrawledReviewData> reviews) {
+            this.cafe = cafe;
+            this.reviews = reviews;
         }
-
-        return totalReviews;
     }
 
     /**
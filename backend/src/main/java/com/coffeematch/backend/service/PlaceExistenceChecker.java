@@ -0,0 +1,19 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Platform;
+
+/**
+ * 플랫폼에 장소가 아직 있는지 확인 (폐업 검증용)
+ * - 구현체는 플랫폼마다 하나, 요청 제한은 구현체가 책임짐
+ * - 확인 가능한 구현체가 없는 플랫폼의 카페는 검증하지 않음
+ */
+public interface PlaceExistenceChecker {
+    Platform getPlatform();
+
+    /**
+     * @param platformId 플랫폼 고유 ID (Cafe.platformId)
+     * @return 장소가 있으면 true, 없어진 것이 확인되면 false
+     * @throws Exception 판단할 수 없는 경우 (네트워크 오류, 페이지 로딩 실패 등 - 실패 횟수에 넣지 않음)
+     */
+    boolean exists(String platformId) throws Exception;
+}
@@ -0,0 +1,244 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Platform;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 플랫폼별 (platformId -> cafeId) 메모리 인덱스
+ * - 기동 시 cafe 테이블에서 한 번 적재하고, 신규 등록/삭제 시 갱신
+ * - 등록은 트랜잭션 커밋 후에만 반영 (putAfterCommit) - 롤백된 INSERT 의 id 가 남지 않도록
+ * - 삭제는 바로 반영 (인덱스에 없으면 DB 로 확인하므로 먼저 지워도 안전)
+ * - 인덱스에 있으면 DB 조회 없이 기존 카페로 판정
+ * - 인덱스에 없으면 다른 인스턴스가 등록했을 수 있으므로 호출하는 쪽에서 DB로 확인 (정확한 fallback)
+ * - 문자열 키 + long 값을 배열에 직접 담는 open addressing 맵이라 HashMap&lt;String, Long&gt; 보다 메모리가 적음
+ */
+@Service
+public class PlatformIdIndex {
+
+    private static final long ABSENT = -1L;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Map<Platform, Segment> segments = new EnumMap<>(Platform.class);
+
+    public PlatformIdIndex(DataSource dataSource) {
+        // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        for (Platform platform : Platform.values()) {
+            segments.put(platform, new Segment());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Platform platform : Platform.values()) {
+            try {
+                Segment segment = segments.get(platform);
+                streamingJdbcTemplate.query(
+                        "SELECT platform_id, id FROM cafe WHERE source_platform = ? AND platform_id IS NOT NULL",
+                        rs -> {
+                            segment.put(rs.getString(1), rs.getLong(2));
+                        },
+                        platform.name());
+                segment.loaded = true;
+            } catch (Exception e) {
+                System.err.println("Failed to load platform id index for " + platform + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 알려진 카페 id 조회
+     *
+     * @return 카페 id, 모르면 null (DB 확인 필요)
+     */
+    public Long find(Platform platform, String platformId) {
+        if (platform == null || platformId == null) {
+            return null;
+        }
+        long id = segments.get(platform).get(platformId);
+        return id != ABSENT ? id : null;
+    }
+
+    public void put(Platform platform, String platformId, Long cafeId) {
+        if (platform == null || platformId == null || cafeId == null) {
+            return;
+        }
+        segments.get(platform).put(platformId, cafeId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 등록 (트랜잭션 밖이면 바로 등록)
+     */
+    public void putAfterCommit(Platform platform, String platformId, Long cafeId) {
+        putAllAfterCommit(platform, Collections.singletonMap(platformId, cafeId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 (platformId -> cafeId) 목록을 한 번에 등록
+     */
+    public void putAllAfterCommit(Platform platform, Map<String, Long> cafeIds) {
+        if (cafeIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cafeIds.forEach((platformId, cafeId) -> put(platform, platformId, cafeId));
+            return;
+        }
+        Map<String, Long> pending = new HashMap<>(cafeIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.forEach((platformId, cafeId) -> put(platform, platformId, cafeId));
+            }
+        });
+    }
+
+    public void remove(Platform platform, String platformId) {
+        if (platform == null || platformId == null) {
+            return;
+        }
+        segments.get(platform).remove(platformId);
+    }
+
+    public boolean isLoaded(Platform platform) {
+        return segments.get(platform).loaded;
+    }
+
+    public int size(Platform platform) {
+        return segments.get(platform).size();
+    }
+
+    /**
+     * 플랫폼 하나의 인덱스 (선형 탐사 해시 테이블)
+     */
+    private static final class Segment {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private String[] keys = new String[1024];
+        private long[] values = new long[1024];
+        private int size;
+        private volatile boolean loaded;
+
+        long get(String key) {
+            lock.readLock().lock();
+            try {
+                int mask = keys.length - 1;
+                for (int i = slot(key, mask);; i = (i + 1) & mask) {
+                    String current = keys[i];
+                    if (current == null) {
+                        return ABSENT;
+                    }
+                    if (current.equals(key)) {
+                        return values[i];
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(String key, long value) {
+            lock.writeLock().lock();
+            try {
+                if ((size + 1) * 2 > keys.length) {
+                    resize(keys.length * 2);
+                }
+                int mask = keys.length - 1;
+                for (int i = slot(key, mask);; i = (i + 1) & mask) {
+                    String current = keys[i];
+                    if (current == null) {
+                        keys[i] = key;
+                        values[i] = value;
+                        size++;
+                        return;
+                    }
+                    if (current.equals(key)) {
+                        values[i] = value;
+                        return;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String key) {
+            lock.writeLock().lock();
+            try {
+                int mask = keys.length - 1;
+                int i = slot(key, mask);
+                while (keys[i] != null && !keys[i].equals(key)) {
+                    i = (i + 1) & mask;
+                }
+                if (keys[i] == null) {
+                    return;
+                }
+                keys[i] = null;
+                size--;
+
+                // 삭제 자리 뒤의 클러스터를 앞으로 당겨 탐사 경로 유지 (backward shift)
+                int j = i;
+                while (true) {
+                    j = (j + 1) & mask;
+                    if (keys[j] == null) {
+                        return;
+                    }
+                    int ideal = slot(keys[j], mask);
+                    boolean stays = (i <= j) ? (i < ideal && ideal <= j) : (i < ideal || ideal <= j);
+                    if (!stays) {
+                        keys[i] = keys[j];
+                        values[i] = values[j];
+                        keys[j] = null;
+                        i = j;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new String[capacity];
+            values = new long[capacity];
+            int mask = capacity - 1;
+            for (int k = 0; k < oldKeys.length; k++) {
+                if (oldKeys[k] != null) {
+                    int i = slot(oldKeys[k], mask);
+                    while (keys[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[k];
+                    values[i] = oldValues[k];
+                }
+            }
+        }
+
+        private static int slot(String key, int mask) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
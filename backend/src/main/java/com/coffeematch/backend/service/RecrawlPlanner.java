@@ -0,0 +1,145 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.repository.CafeRepository;
+import com.coffeematch.backend.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 재수집 대상 선정
+ * - 후보는 (source_platform, last_synced_at) 인덱스를 타는 쿼리로 가장 오래된 순서 limit × candidate-factor 건만 조회
+ * - 후보마다 점수 = 경과 일수 × (1 + 인기도 가중치 × 인기도) × (1 + 변경 가중치 × 최근 변경률)
+ *   인기도: log(1 + 북마크 수) + log(1 + 리뷰 수), 최근 변경률: 최근 N일간 새로 수집된 리뷰 수 / N
+ * - 크기 limit 의 최소 힙으로 상위 limit 건만 남겨 점수 높은 순으로 반환
+ */
+@Service
+public class RecrawlPlanner {
+
+    private final CafeRepository cafeRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${crawl.recrawl.candidate-factor:4}")
+    private int candidateFactor;
+
+    @Value("${crawl.recrawl.popularity-weight:0.5}")
+    private double popularityWeight;
+
+    @Value("${crawl.recrawl.change-weight:2.0}")
+    private double changeWeight;
+
+    @Value("${crawl.recrawl.change-window-days:30}")
+    private int changeWindowDays;
+
+    public RecrawlPlanner(CafeRepository cafeRepository, ReviewRepository reviewRepository) {
+        this.cafeRepository = cafeRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * threshold 이전에 마지막으로 동기화된 카페 중 우선순위 상위 limit 건
+     *
+     * @param platform 플랫폼 (null 이면 전체)
+     * @return 점수 높은 순
+     */
+    public List<Cafe> nextBatch(Platform platform, LocalDateTime threshold, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        PageRequest candidatesPage = PageRequest.of(0, limit * Math.max(1, candidateFactor));
+        List<Cafe> candidates = platform != null
+                ? cafeRepository.findStaleBySourcePlatform(platform, threshold, candidatesPage)
+                : cafeRepository.findStale(threshold, candidatesPage);
+        return topByScore(candidates, limit);
+    }
+
+    private List<Cafe> topByScore(List<Cafe> candidates, int limit) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Map<Long, Long> recentChanges = countRecentReviews(candidates);
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<ScoredCafe> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(s -> s.score));
+        for (Cafe cafe : candidates) {
+            top.offer(new ScoredCafe(cafe, score(cafe, recentChanges.getOrDefault(cafe.getId(), 0L), now)));
+            if (top.size() > limit) {
+                top.poll(); // 가장 낮은 점수 제거
+            }
+        }
+
+        List<Cafe> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().cafe);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 리뷰 재수집 대상 - 변경률 추정치(cafe_revisit_stats)가 있으면 next_due_at 이 지난 순서대로,
+     * 남은 자리는 추정치가 없는 카페 중 threshold 이전에 동기화된 카페를 점수 순으로 채움
+     * (추정치가 있고 아직 예정 시각 전인 카페는 오래됐더라도 건너뜀)
+     */
+    public List<Cafe> nextRecrawlBatch(Platform platform, LocalDateTime threshold, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Cafe> batch = new ArrayList<>(
+                cafeRepository.findDueBySourcePlatform(platform, LocalDateTime.now(), PageRequest.of(0, limit)));
+        if (batch.size() < limit) {
+            int remaining = limit - batch.size();
+            List<Cafe> candidates = cafeRepository.findUnscheduledStaleBySourcePlatform(platform, threshold,
+                    PageRequest.of(0, remaining * Math.max(1, candidateFactor)));
+            batch.addAll(topByScore(candidates, remaining));
+        }
+        return batch;
+    }
+
+    double score(Cafe cafe, long recentReviews, LocalDateTime now) {
+        double stalenessDays = cafe.getLastSyncedAt() != null
+                ? Math.max(0, Duration.between(cafe.getLastSyncedAt(), now).toMinutes()) / 1440.0
+                : changeWindowDays;
+        double popularity = Math.log1p(nonNegative(cafe.getBookmarkCount()))
+                + Math.log1p(nonNegative(cafe.getReviewCount()));
+        double changeRate = recentReviews / (double) Math.max(1, changeWindowDays);
+        return stalenessDays * (1 + popularityWeight * popularity) * (1 + changeWeight * changeRate);
+    }
+
+    private Map<Long, Long> countRecentReviews(List<Cafe> cafes) {
+        List<Long> ids = cafes.stream().map(Cafe::getId).collect(Collectors.toList());
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : reviewRepository.countCrawledSinceByCafeIdIn(ids,
+                LocalDateTime.now().minusDays(changeWindowDays))) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static int nonNegative(Integer value) {
+        return value != null && value > 0 ? value : 0;
+    }
+
+    private static class ScoredCafe {
+        private final Cafe cafe;
+        private final double score;
+
+        ScoredCafe(Cafe cafe, double score) {
+            this.cafe = cafe;
+            this.score = score;
+        }
+    }
+}
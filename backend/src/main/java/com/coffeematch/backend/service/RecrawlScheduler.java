@@ -0,0 +1,92 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.Platform;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 우선순위 기반 리뷰 재수집 스케줄러
+ * - 하루 예산(daily-budget)을 tick 마다 나눠 쓰므로 하루 동안 고르게 분산
+ *   (이번 tick 배치 = 남은 예산 / 오늘 남은 tick 수, 앞에서 덜 쓰면 뒤 tick 이 자동으로 늘어남)
+ * - 대상은 RecrawlPlanner 가 플랫폼별로 선정 (예정 시각이 지난 카페 먼저, 나머지는 점수 순)
+ */
+@Service
+public class RecrawlScheduler {
+
+    private final RecrawlPlanner recrawlPlanner;
+    private final IncrementalUpdateService incrementalUpdateService;
+
+    @Value("${crawl.recrawl.enabled:false}")
+    private boolean enabled;
+
+    @Value("${crawl.recrawl.platforms:KAKAO_MAP}")
+    private List<Platform> platforms;
+
+    @Value("${crawl.recrawl.daily-budget:2000}")
+    private int dailyBudget;
+
+    @Value("${crawl.recrawl.stale-days:7}")
+    private int staleDays;
+
+    @Value("${crawl.recrawl.tick-ms:300000}")
+    private long tickMs;
+
+    private LocalDate budgetDate = LocalDate.now();
+    private int usedToday;
+
+    public RecrawlScheduler(RecrawlPlanner recrawlPlanner, IncrementalUpdateService incrementalUpdateService) {
+        this.recrawlPlanner = recrawlPlanner;
+        this.incrementalUpdateService = incrementalUpdateService;
+    }
+
+    @Scheduled(fixedDelayString = "${crawl.recrawl.tick-ms:300000}", initialDelayString = "${crawl.recrawl.tick-ms:300000}")
+    public void tick() {
+        if (!enabled || platforms.isEmpty()) {
+            return;
+        }
+        int batchSize = nextBatchSize(LocalDateTime.now());
+        if (batchSize == 0) {
+            return;
+        }
+
+        // 플랫폼마다 고르게 나눠서 선정
+        int perPlatform = Math.max(1, batchSize / platforms.size());
+        LocalDateTime threshold = LocalDateTime.now().minusDays(staleDays);
+        List<Cafe> batch = new ArrayList<>();
+        for (Platform platform : platforms) {
+            batch.addAll(recrawlPlanner.nextRecrawlBatch(platform, threshold, perPlatform));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        usedToday += batch.size();
+        int reviews = incrementalUpdateService.collectReviews(batch);
+        System.out.println("Recrawl tick: " + batch.size() + " cafes, " + reviews + " new reviews, "
+                + usedToday + "/" + dailyBudget + " used today");
+    }
+
+    /**
+     * 오늘 남은 예산을 남은 tick 수로 나눈 이번 배치 크기 (자정에 초기화)
+     */
+    synchronized int nextBatchSize(LocalDateTime now) {
+        if (!now.toLocalDate().equals(budgetDate)) {
+            budgetDate = now.toLocalDate();
+            usedToday = 0;
+        }
+        int remaining = dailyBudget - usedToday;
+        if (remaining <= 0) {
+            return 0;
+        }
+        long msLeftToday = Duration.between(now, budgetDate.plusDays(1).atStartOfDay()).toMillis();
+        long ticksLeft = Math.max(1, (msLeftToday + tickMs - 1) / tickMs);
+        return (int) Math.min(remaining, (remaining + ticksLeft - 1) / ticksLeft);
+    }
+}
@@ -0,0 +1,30 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Platform;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카페 한 곳의 리뷰를 가져오는 크롤러 (증분 리뷰 수집용)
+ * - 구현체는 플랫폼마다 하나, 요청 제한은 구현체가 책임짐
+ */
+public interface ReviewCrawler {
+    Platform getPlatform();
+
+    /**
+     * @param platformId 플랫폼 고유 ID (Cafe.platformId)
+     * @return 페이지에서 읽은 리뷰 (중복 제거/날짜 필터링은 저장하는 쪽에서)
+     */
+    List<IncrementalUpdateService.CrawledReviewData> fetchReviews(String platformId) throws Exception;
+
+    /**
+     * since 이후 리뷰만 필요할 때 - 리뷰를 페이지로 나눠 보여주는 크롤러는 오래된 페이지에 도달하면 중단
+     *
+     * @param since 마지막으로 수집한 리뷰 시각 (null 이면 전체)
+     */
+    default List<IncrementalUpdateService.CrawledReviewData> fetchReviews(String platformId, LocalDateTime since)
+            throws Exception {
+        return fetchReviews(platformId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.entity.Review;
+import com.coffeematch.backend.entity.ReviewWatermark;
+import com.coffeematch.backend.repository.CafeBulkRepository;
+import com.coffeematch.backend.repository.ReviewRepository;
+import com.coffeematch.backend.repository.ReviewWatermarkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 카페 한 곳의 수집 리뷰 저장 (카페마다 짧은 트랜잭션 하나)
+ * - 크롤링(네트워크 대기)은 호출하는 쪽에서 트랜잭션 밖에서 끝낸 뒤 결과만 넘김
+ * - 최신 리뷰 날짜는 review_watermark 에서 읽고 INSERT 와 같은 트랜잭션에서 갱신
+ * - IncrementalUpdateService 와 분리된 빈이라 @Transactional 이 프록시를 거쳐 적용됨
+ */
+@Service
+public class ReviewPersistenceService {
+
+    private final ReviewRepository reviewRepository;
+    private final CafeBulkRepository cafeBulkRepository;
+    private final RevisitStatsService revisitStatsService;
+    private final ReviewWatermarkRepository reviewWatermarkRepository;
+
+    @Value("${crawl.reviews.chunk-size:500}")
+    private int reviewChunkSize;
+
+    public ReviewPersistenceService(ReviewRepository reviewRepository, CafeBulkRepository cafeBulkRepository,
+            RevisitStatsService revisitStatsService, ReviewWatermarkRepository reviewWatermarkRepository) {
+        this.reviewRepository = reviewRepository;
+        this.cafeBulkRepository = cafeBulkRepository;
+        this.revisitStatsService = revisitStatsService;
+        this.reviewWatermarkRepository = reviewWatermarkRepository;
+    }
+
+    /**
+     * 신규 리뷰만 저장
+     * - 청크마다 platform_review_id 를 IN 쿼리 한 번으로 확인하고 새 리뷰는 JDBC 배치로 INSERT
+     * - 리뷰 수/평점 평균/last_synced_at 은 카페당 UPDATE 한 번
+     * 
+     * @param cafe           카페
+     * @param crawledReviews 크롤링된 리뷰 목록
+     * @return 새로 저장된 리뷰 수
+     */
+    @Transactional
+    public int saveNewReviews(Cafe cafe, List<IncrementalUpdateService.CrawledReviewData> crawledReviews) {
+        ReviewWatermark watermark = reviewWatermarkRepository
+                .findById(new ReviewWatermark.Key(cafe.getId(), cafe.getSourcePlatform())).orElse(null);
+        return saveNewReviews(cafe, crawledReviews, watermark);
+    }
+
+    /**
+     * 신규 리뷰만 저장 - 워터마크를 호출하는 쪽에서 배치 단위로 미리 읽어 둔 경우
+     *
+     * @param watermark 카페의 리뷰 워터마크 (없으면 null - 이 경우만 review 테이블에서 MAX 조회)
+     */
+    @Transactional
+    public int saveNewReviews(Cafe cafe, List<IncrementalUpdateService.CrawledReviewData> crawledReviews,
+            ReviewWatermark watermark) {
+        int savedCount = 0;
+        Platform platform = cafe.getSourcePlatform();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 최신 리뷰 날짜 - 워터마크가 아직 없는 카페만 review 테이블에서 한 번 계산
+        LocalDateTime latestDate = watermark != null ? watermark.getLatestReviewAt()
+                : reviewRepository.findLatestReviewDateByCafeAndPlatform(cafe.getId(), platform).orElse(null);
+        LocalDateTime newestDate = latestDate;
+        // 날짜만 표기된 리뷰는 그날 00:00 으로 파싱되므로 워터마크와 같은 날 리뷰가 앞선 시각이 됨
+        // - 크롤러(since 하루 전까지 수집)와 같이 하루 여유를 두고, 겹치는 리뷰는 platform_review_id 로 거름
+        LocalDateTime cutoff = latestDate != null ? latestDate.minusDays(1) : null;
+        String newestReviewId = watermark != null ? watermark.getLatestPlatformReviewId() : null;
+
+        for (int from = 0; from < crawledReviews.size(); from += reviewChunkSize) {
+            List<IncrementalUpdateService.CrawledReviewData> chunk = crawledReviews.subList(from,
+                    Math.min(from + reviewChunkSize, crawledReviews.size()));
+
+            // 중복 체크 - platform_review_id 로 한 번에 확인
+            Set<String> platformReviewIds = new HashSet<>();
+            for (IncrementalUpdateService.CrawledReviewData crawledData : chunk) {
+                if (crawledData.getPlatformReviewId() != null) {
+                    platformReviewIds.add(crawledData.getPlatformReviewId());
+                }
+            }
+            Set<String> seen = platformReviewIds.isEmpty() ? new HashSet<>()
+                    : new HashSet<>(reviewRepository.findExistingPlatformReviewIds(platform, platformReviewIds));
+
+            List<Review> newReviews = new ArrayList<>();
+            for (IncrementalUpdateService.CrawledReviewData crawledData : chunk) {
+                String platformReviewId = crawledData.getPlatformReviewId();
+                if (platformReviewId != null && !seen.add(platformReviewId)) {
+                    continue; // 이미 존재하거나 목록 안에서 중복된 리뷰
+                }
+
+                // 날짜 필터링 (선택적)
+                if (cutoff != null && crawledData.getReviewDate() != null) {
+                    if (crawledData.getReviewDate().isBefore(cutoff)) {
+                        continue; // 이미 수집된 리뷰보다 오래됨
+                    }
+                }
+
+                Review review = new Review();
+                review.setCafe(cafe);
+                review.setAuthor(crawledData.getReviewerNickname());
+                review.setRating(crawledData.getRating());
+                review.setContent(crawledData.getContent());
+                review.setCreatedAt(crawledData.getReviewDate());
+                review.setImageUrl(crawledData.getImageUrl());
+                review.setSourcePlatform(platform);
+                review.setPlatformReviewId(platformReviewId);
+                review.setCrawledAt(now);
+                newReviews.add(review);
+
+                if (review.getCreatedAt() != null && (newestDate == null || review.getCreatedAt().isAfter(newestDate))) {
+                    newestDate = review.getCreatedAt();
+                    newestReviewId = platformReviewId;
+                }
+            }
+            savedCount += cafeBulkRepository.insertReviews(newReviews);
+        }
+
+        // 워터마크도 같은 트랜잭션에서 갱신 (새 리뷰가 없어도 행을 만들어 다음부터 MAX 조회를 하지 않음)
+        cafeBulkRepository.upsertReviewWatermarks(
+                List.of(new ReviewWatermark(cafe.getId(), platform, newestDate, newestReviewId, now)));
+
+        // 카페의 리뷰 집계와 last_synced_at 업데이트
+        // (엔티티를 수정하면 flush 때 전체 컬럼 UPDATE 로 방금 계산한 평균을 덮어쓰므로 SQL 로만 갱신)
+        cafeBulkRepository.updateReviewAggregates(cafe.getId(), savedCount, now);
+
+        // 새 리뷰 수를 변경 횟수로 기록 - 다음 재수집 예정 시각 갱신
+        revisitStatsService.recordVisit(cafe.getId(), savedCount, now);
+
+        return savedCount;
+    }
+}
@@ -0,0 +1,123 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.RevisitBudgetReportDto;
+import com.coffeematch.backend.entity.CafeRevisitStats;
+import com.coffeematch.backend.repository.CafeRevisitStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카페별 재방문 간격 추정
+ * - 방문할 때마다 직전 방문 이후 관측한 변경 횟수(새 리뷰 수, 내용 해시 변경)를 기록
+ * - 변경률 λ = (관측 변경 수 + 사전 변경 수) / (관측 일수 + 사전 일수) - 관측이 적은 카페는 사전값(prior)에 가깝게
+ * - 다음 방문 간격 = -ln(1 - p) / λ : 그 사이에 변경이 한 번 이상 있을 확률이 p 가 되는 시점
+ *   (min-interval-hours ~ max-interval-days 범위로 제한)
+ * - 내용 해시는 여러 번 바뀌어도 1회로 보이므로 자주 바뀌는 카페의 변경률은 다소 낮게 추정됨
+ */
+@Service
+public class RevisitStatsService {
+
+    private final CafeRevisitStatsRepository revisitStatsRepository;
+
+    @Value("${crawl.revisit.target-change-probability:0.5}")
+    private double targetChangeProbability;
+
+    @Value("${crawl.revisit.prior-days:7}")
+    private double priorDays; // 사전값: priorDays 일에 변경 1회
+
+    @Value("${crawl.revisit.window-days:90}")
+    private double windowDays;
+
+    @Value("${crawl.revisit.min-interval-hours:6}")
+    private double minIntervalHours;
+
+    @Value("${crawl.revisit.max-interval-days:30}")
+    private double maxIntervalDays;
+
+    @Value("${crawl.recrawl.stale-days:7}")
+    private int fixedIntervalDays;
+
+    public RevisitStatsService(CafeRevisitStatsRepository revisitStatsRepository) {
+        this.revisitStatsRepository = revisitStatsRepository;
+    }
+
+    public void recordVisit(Long cafeId, int changes, LocalDateTime visitedAt) {
+        recordVisits(Map.of(cafeId, changes), visitedAt);
+    }
+
+    /**
+     * 방문 결과 일괄 기록 (조회 한 번 + 배치 저장)
+     *
+     * @param changesByCafeId 카페 id → 직전 방문 이후 관측한 변경 횟수
+     */
+    @Transactional
+    public void recordVisits(Map<Long, Integer> changesByCafeId, LocalDateTime visitedAt) {
+        if (changesByCafeId.isEmpty()) {
+            return;
+        }
+        Map<Long, CafeRevisitStats> existing = new HashMap<>();
+        for (CafeRevisitStats stats : revisitStatsRepository.findAllById(changesByCafeId.keySet())) {
+            existing.put(stats.getCafeId(), stats);
+        }
+        for (Map.Entry<Long, Integer> entry : changesByCafeId.entrySet()) {
+            CafeRevisitStats stats = existing.computeIfAbsent(entry.getKey(), CafeRevisitStats::new);
+            update(stats, entry.getValue(), visitedAt);
+        }
+        revisitStatsRepository.saveAll(existing.values());
+    }
+
+    void update(CafeRevisitStats stats, int changes, LocalDateTime visitedAt) {
+        if (stats.getLastVisitedAt() != null) {
+            double elapsedDays = Math.max(0, Duration.between(stats.getLastVisitedAt(), visitedAt).toMinutes()) / 1440.0;
+            stats.setEvents(stats.getEvents() + changes);
+            stats.setObservedDays(stats.getObservedDays() + elapsedDays);
+            // 관측 창을 넘으면 비율을 유지한 채 축소해 오래된 관측의 영향을 줄임
+            if (stats.getObservedDays() > windowDays) {
+                double scale = windowDays / stats.getObservedDays();
+                stats.setEvents(stats.getEvents() * scale);
+                stats.setObservedDays(windowDays);
+            }
+        }
+        if (changes > 0) {
+            stats.setLastChangedAt(visitedAt);
+        }
+        stats.setVisits(stats.getVisits() + 1);
+        stats.setLastVisitedAt(visitedAt);
+
+        double rate = (stats.getEvents() + 1) / (stats.getObservedDays() + priorDays);
+        double intervalHours = -Math.log(1 - targetChangeProbability) / rate * 24;
+        intervalHours = Math.max(minIntervalHours, Math.min(maxIntervalDays * 24, intervalHours));
+        stats.setChangeRatePerDay(rate);
+        stats.setIntervalHours(intervalHours);
+        stats.setNextDueAt(visitedAt.plusMinutes(Math.round(intervalHours * 60)));
+    }
+
+    /**
+     * 추정 간격으로 방문할 때와 같은 카페들을 고정 간격(crawl.recrawl.stale-days)으로 방문할 때의 하루 방문 수 비교
+     */
+    public RevisitBudgetReportDto getBudgetReport() {
+        List<Object[]> rows = revisitStatsRepository.summarize();
+        Object[] row = rows.get(0);
+        long modeledCafes = ((Number) row[0]).longValue();
+        double adaptiveVisitsPerDay = ((Number) row[1]).doubleValue();
+        double fixedVisitsPerDay = modeledCafes / (double) Math.max(1, fixedIntervalDays);
+
+        RevisitBudgetReportDto report = new RevisitBudgetReportDto();
+        report.setModeledCafes(modeledCafes);
+        report.setDueNow(revisitStatsRepository.countByNextDueAtLessThanEqual(LocalDateTime.now()));
+        report.setAverageChangeRatePerDay(((Number) row[2]).doubleValue());
+        report.setAdaptiveVisitsPerDay(adaptiveVisitsPerDay);
+        report.setFixedIntervalDays(fixedIntervalDays);
+        report.setFixedVisitsPerDay(fixedVisitsPerDay);
+        report.setSavedVisitsPerDay(fixedVisitsPerDay - adaptiveVisitsPerDay);
+        report.setSavedRatio(fixedVisitsPerDay > 0 ? (fixedVisitsPerDay - adaptiveVisitsPerDay) / fixedVisitsPerDay : 0);
+        return report;
+    }
+}
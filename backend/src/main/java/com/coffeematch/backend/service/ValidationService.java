@@ -4,32 +4,66 @@ import com.coffeematch.backend.entity.Cafe;
 import com.coffeematch.backend.entity.CafeStatus;
 import com.coffeematch.backend.entity.Platform;
 import com.coffeematch.backend.repository.CafeRepository;
+import com.coffeematch.backend.service.impl.CrawlFetchExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * 폐업 검증 서비스
  * - 기존 DB의 카페들을 주기적으로 재확인
- * - 플랫폼에서 접근 불가 시 CLOSED_SUSPECTED로 표시
- * - 연속 실패 시 CLOSED_CONFIRMED로 전환
+ * - 플랫폼에서 접근 불가 시 CLOSED_SUSPECTED로 표시, 연속 실패 횟수(failed_check_count) 누적
+ * - 연속 crawl.validation.closure-threshold 회 실패 시 CLOSED_CONFIRMED로 전환, 확인되면 횟수 초기화
+ * - 존재 확인은 플랫폼별 PlaceExistenceChecker 로 동시에 실행 (요청 제한은 구현체가 담당)
+ * - 확인 방법이 없는 플랫폼의 카페는 건너뛰고 검증 수에 넣지 않음
+ * - 결과는 목표 상태별 UPDATE ... WHERE id IN (...) 으로 한 번에 반영
  */
 @Service
 public class ValidationService {
 
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
     private final CafeRepository cafeRepository;
-    private static final int CLOSURE_THRESHOLD = 3; // 3회 연속 실패 시 폐업 확정
+    private final RecrawlPlanner recrawlPlanner;
+    private final CrawlFetchExecutor fetchExecutor;
+    private final Map<Platform, PlaceExistenceChecker> existenceCheckers = new EnumMap<>(Platform.class);
+    private final TransactionTemplate transactionTemplate;
+    private final CafeScroller cafeScroller;
+
+    @Value("${crawl.validation.batch-size:200}")
+    private int validationBatchSize;
+
+    @Value("${crawl.validation.closure-threshold:3}")
+    private int closureThreshold;
 
-    public ValidationService(CafeRepository cafeRepository) {
+    @Value("${crawl.validation.concurrency:8}")
+    private int concurrency;
+
+    public ValidationService(CafeRepository cafeRepository, RecrawlPlanner recrawlPlanner,
+            CrawlFetchExecutor fetchExecutor, TransactionTemplate transactionTemplate, CafeScroller cafeScroller,
+            List<PlaceExistenceChecker> existenceCheckers) {
         this.cafeRepository = cafeRepository;
+        this.recrawlPlanner = recrawlPlanner;
+        this.fetchExecutor = fetchExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.cafeScroller = cafeScroller;
+        for (PlaceExistenceChecker checker : existenceCheckers) {
+            this.existenceCheckers.put(checker.getPlatform(), checker);
+        }
     }
 
     /**
      * 특정 카페의 존재 여부 검증
-     * 
+     *
      * @param cafeId      카페 ID
      * @param stillExists 플랫폼에서 여전히 존재하는지 여부
      * @return 업데이트된 카페 상태
@@ -40,137 +74,198 @@ public class ValidationService {
         if (cafeOpt.isEmpty()) {
             return null;
         }
-
         Cafe cafe = cafeOpt.get();
-
-        if (stillExists) {
-            // 카페가 여전히 존재 - ACTIVE로 복구
-            if (cafe.getStatus() == CafeStatus.CLOSED_SUSPECTED) {
-                cafe.setStatus(CafeStatus.ACTIVE);
-            }
-            cafe.setLastSyncedAt(LocalDateTime.now());
-        } else {
-            // 카페 접근 실패
-            if (cafe.getStatus() == CafeStatus.ACTIVE || cafe.getStatus() == CafeStatus.NEW) {
-                // 첫 실패 - CLOSED_SUSPECTED로 전환
-                cafe.setStatus(CafeStatus.CLOSED_SUSPECTED);
-            } else if (cafe.getStatus() == CafeStatus.CLOSED_SUSPECTED) {
-                // 이미 의심 상태 - 실패 횟수 체크 (간단하게는 last_synced_at 기준)
-                // 실제로는 별도 failed_check_count 필드가 필요할 수 있음
-                // 여기서는 3회 검증 실패를 가정하고 CLOSED_CONFIRMED로 전환
-                cafe.setStatus(CafeStatus.CLOSED_CONFIRMED);
-            }
-        }
-
-        cafeRepository.save(cafe);
-        return cafe.getStatus();
+        CafeStatus next = nextStatus(cafe, stillExists);
+        applyResults(Collections.singletonList(new CheckResult(cafe, stillExists)));
+        return next;
     }
 
     /**
      * 플랫폼 ID로 카페가 여전히 존재하는지 확인
-     * 
+     *
      * @param platform   플랫폼
      * @param platformId 플랫폼 고유 ID
      * @return 존재 여부
+     * @throws IllegalArgumentException 확인할 수 없는 플랫폼
+     * @throws Exception                판단할 수 없는 경우 (실패 횟수에 넣지 않음)
      */
-    public boolean checkExistence(Platform platform, String platformId) {
-        // TODO: 실제 크롤러 호출하여 페이지 접근 확인
-        // 예: KakaoMapCrawler.checkCafeExists(platformId)
-        // 404 또는 검색 결과 없음 -> false 반환
+    public boolean checkExistence(Platform platform, String platformId) throws Exception {
+        PlaceExistenceChecker checker = existenceCheckers.get(platform);
+        if (checker == null || platformId == null) {
+            throw new IllegalArgumentException("Existence check is not supported for " + platform);
+        }
+        return checker.exists(platformId);
+    }
 
-        // 임시 구현
-        return true;
+    public boolean isCheckable(Cafe cafe) {
+        return cafe.getPlatformId() != null && existenceCheckers.containsKey(cafe.getSourcePlatform());
     }
 
     /**
-     * CLOSED_SUSPECTED 상태의 모든 카페 재검증
-     * 
+     * CLOSED_SUSPECTED 상태의 모든 카페 재검증 (CafeScroller 배치 단위)
+     *
      * @return 검증된 카페 수
      */
-    @Transactional
     public int validateSuspectedCafes() {
-        List<Cafe> suspectedCafes = cafeRepository.findByStatus(CafeStatus.CLOSED_SUSPECTED);
-        int validatedCount = 0;
-
-        for (Cafe cafe : suspectedCafes) {
-            try {
-                boolean exists = checkExistence(cafe.getSourcePlatform(), cafe.getPlatformId());
-                validateCafe(cafe.getId(), exists);
-                validatedCount++;
-
-                // Anti-bot: 요청간 지연
-                Thread.sleep((long) (1000 + Math.random() * 2000));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                System.err.println("Error validating cafe " + cafe.getId() + ": " + e.getMessage());
-            }
-        }
-
-        return validatedCount;
+        return validateScrolled(CafeStatus.CLOSED_SUSPECTED, Integer.MAX_VALUE);
     }
 
     /**
      * 모든 ACTIVE 카페의 정기 검증 (샘플링)
-     * 
+     *
      * @param sampleSize 검증할 카페 수
      * @return 검증된 카페 수
      */
-    @Transactional
     public int validateActiveCafesSample(int sampleSize) {
-        List<Cafe> activeCafes = cafeRepository.findByStatus(CafeStatus.ACTIVE);
-
-        // 랜덤 샘플링
-        int count = Math.min(sampleSize, activeCafes.size());
-        int validatedCount = 0;
-
-        for (int i = 0; i < count; i++) {
-            Cafe cafe = activeCafes.get(i);
-            try {
-                boolean exists = checkExistence(cafe.getSourcePlatform(), cafe.getPlatformId());
-                validateCafe(cafe.getId(), exists);
-                validatedCount++;
+        return validateScrolled(CafeStatus.ACTIVE, sampleSize);
+    }
 
-                Thread.sleep((long) (1000 + Math.random() * 2000));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                System.err.println("Error validating cafe " + cafe.getId() + ": " + e.getMessage());
-            }
+    /**
+     * 오래된 카페 전체 검증 (last_synced_at 기준)
+     * - 기준 시각 이전 카페를 id 순서로 스크롤하면서 남은 것이 없을 때까지 배치 단위로 검증
+     * - 확인에 실패한 카페는 last_synced_at 이 그대로라 우선순위 조회로는 계속 앞에 오므로,
+     *   키셋 순회로 카페마다 한 번씩만 확인하고 끝냄 (우선순위 상위만 필요하면 limit 버전 사용)
+     *
+     * @param daysOld 며칠 이상 업데이트되지 않은 카페
+     * @return 검증된 카페 수
+     */
+    public int validateOldCafes(int daysOld) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(daysOld);
+        int[] validated = { 0 };
+        try {
+            cafeScroller.scroll(
+                    (afterId, page) -> cafeRepository.findByLastSyncedAtBeforeAndIdGreaterThanOrderByIdAsc(threshold,
+                            afterId, page),
+                    batch -> {
+                        validated[0] += validateAll(batch);
+                        return !Thread.currentThread().isInterrupted();
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
-        return validatedCount;
+        return validated[0];
     }
 
     /**
-     * 오래된 카페 우선 검증 (last_synced_at 기준)
-     * 
+     * 오래된 카페 우선 검증 - 전체 목록 대신 우선순위 상위 limit 건만 조회
+     *
      * @param daysOld 며칠 이상 업데이트되지 않은 카페
+     * @param limit   검증할 카페 수
      * @return 검증된 카페 수
      */
-    @Transactional
-    public int validateOldCafes(int daysOld) {
+    public int validateOldCafes(int daysOld, int limit) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(daysOld);
-        List<Cafe> oldCafes = cafeRepository.findByLastSyncedAtBefore(threshold);
-        int validatedCount = 0;
+        return validateAll(recrawlPlanner.nextBatch(null, threshold, limit));
+    }
 
-        for (Cafe cafe : oldCafes) {
-            try {
-                boolean exists = checkExistence(cafe.getSourcePlatform(), cafe.getPlatformId());
-                validateCafe(cafe.getId(), exists);
-                validatedCount++;
+    /**
+     * 상태별 카페를 id 순서로 스크롤하면서 최대 limit 건 검증 (전체 목록을 메모리에 올리지 않음)
+     */
+    private int validateScrolled(CafeStatus status, int limit) {
+        int[] validated = { 0 };
+        int[] remaining = { limit };
+        try {
+            cafeScroller.scroll(
+                    (afterId, page) -> cafeRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId, page),
+                    batch -> {
+                        List<Cafe> targets = batch.subList(0, Math.min(batch.size(), remaining[0]));
+                        remaining[0] -= targets.size();
+                        validated[0] += validateAll(targets);
+                        return remaining[0] > 0 && !Thread.currentThread().isInterrupted();
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return validated[0];
+    }
+
+    /**
+     * 카페 목록을 batch-size 단위로 확인하고 단위마다 결과를 반영
+     * - 확인 요청은 트랜잭션 밖에서 동시에 실행, 반영은 짧은 트랜잭션 하나
+     * - 확인 방법이 없는 플랫폼의 카페와 판단할 수 없었던 카페는 건너뜀 (검증 수에서 제외)
+     */
+    private int validateAll(List<Cafe> candidates) {
+        List<Cafe> cafes = new ArrayList<>(candidates.size());
+        for (Cafe cafe : candidates) {
+            if (isCheckable(cafe)) {
+                cafes.add(cafe);
+            }
+        }
+        if (cafes.size() < candidates.size()) {
+            System.err.println("No existence check for " + (candidates.size() - cafes.size()) + " cafe(s), skipped");
+        }
 
-                Thread.sleep((long) (1000 + Math.random() * 2000));
+        int validatedCount = 0;
+        for (int from = 0; from < cafes.size(); from += validationBatchSize) {
+            List<Cafe> batch = cafes.subList(from, Math.min(cafes.size(), from + validationBatchSize));
+            List<CheckResult> results;
+            try {
+                results = fetchExecutor.fetchAll(batch, concurrency,
+                        cafe -> new CheckResult(cafe, checkExistence(cafe.getSourcePlatform(), cafe.getPlatformId())),
+                        null);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
-            } catch (Exception e) {
-                System.err.println("Error validating cafe " + cafe.getId() + ": " + e.getMessage());
             }
+            transactionTemplate.executeWithoutResult(status -> applyResults(results));
+            validatedCount += results.size();
         }
-
         return validatedCount;
     }
+
+    /**
+     * 검증 결과를 목표 상태별로 묶어 UPDATE (상태 전이는 조회 시점의 상태/실패 횟수 기준)
+     */
+    private void applyResults(List<CheckResult> results) {
+        Map<CafeStatus, List<Long>> confirmed = new EnumMap<>(CafeStatus.class);
+        Map<CafeStatus, List<Long>> failed = new EnumMap<>(CafeStatus.class);
+        for (CheckResult result : results) {
+            Map<CafeStatus, List<Long>> group = result.exists ? confirmed : failed;
+            group.computeIfAbsent(nextStatus(result.cafe, result.exists), status -> new ArrayList<>())
+                    .add(result.cafe.getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        confirmed.forEach((status, ids) -> {
+            for (List<Long> chunk : chunks(ids)) {
+                cafeRepository.markExistenceConfirmed(chunk, status, now);
+            }
+        });
+        failed.forEach((status, ids) -> {
+            for (List<Long> chunk : chunks(ids)) {
+                cafeRepository.markExistenceFailed(chunk, status);
+            }
+        });
+    }
+
+    private CafeStatus nextStatus(Cafe cafe, boolean stillExists) {
+        CafeStatus current = cafe.getStatus();
+        if (stillExists) {
+            // 카페가 여전히 존재 - 의심 상태면 ACTIVE로 복구
+            return current == CafeStatus.CLOSED_SUSPECTED ? CafeStatus.ACTIVE : current;
+        }
+        if (current == CafeStatus.CLOSED_CONFIRMED) {
+            return current;
+        }
+        int failures = (cafe.getFailedCheckCount() != null ? cafe.getFailedCheckCount() : 0) + 1;
+        return failures >= closureThreshold ? CafeStatus.CLOSED_CONFIRMED : CafeStatus.CLOSED_SUSPECTED;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + UPDATE_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static class CheckResult {
+        private final Cafe cafe;
+        private final boolean exists;
+
+        CheckResult(Cafe cafe, boolean exists) {
+            this.cafe = cafe;
+            this.exists = exists;
+        }
+    }
 }
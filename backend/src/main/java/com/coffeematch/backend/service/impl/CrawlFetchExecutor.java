@@ -0,0 +1,133 @@
+package com.coffeematch.backend.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 블로킹 HTTP 요청(jsoup 등)을 동시에 실행하는 공용 실행기
+ * - 가상 스레드를 쓸 수 있는 런타임(Java 21+)이면 작업마다 가상 스레드, 아니면 고정 크기 스레드 풀
+ * - 호출마다 동시 실행 수 상한을 두고 결과는 끝나는 순서대로 수집
+ * - 실패한 작업은 로그만 남기고 건너뜀
+ */
+@Service
+public class CrawlFetchExecutor {
+
+    private final int maxConcurrency;
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+
+    public CrawlFetchExecutor(@Value("${crawl.fetch.max-concurrency:32}") int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        if (virtual != null) {
+            this.executor = virtual;
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "crawl-fetch-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 입력마다 task 를 동시에 실행 (동시 실행 수는 concurrency 와 전체 상한 중 작은 값)
+     *
+     * @param onResult 결과가 나올 때마다 호출 (null 가능, 호출 스레드에서 실행)
+     * @return 끝난 순서대로 모은 결과 (실패/ null 결과 제외)
+     */
+    public <T, R> List<R> fetchAll(Collection<T> inputs, int concurrency, FetchTask<T, R> task,
+            Consumer<R> onResult) throws InterruptedException {
+        Semaphore permits = new Semaphore(Math.max(1, Math.min(concurrency, maxConcurrency)));
+        CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+        List<R> results = new ArrayList<>(inputs.size());
+
+        try {
+            int submitted = 0;
+            int completed = 0;
+            for (T input : inputs) {
+                // 상한에 도달하면 끝난 결과를 하나 소비하면서 다음 작업을 제출
+                while (!permits.tryAcquire()) {
+                    collect(completionService.take(), results, onResult);
+                    completed++;
+                }
+                futures.add(completionService.submit(() -> {
+                    try {
+                        return task.fetch(input);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+                submitted++;
+            }
+            for (; completed < submitted; completed++) {
+                collect(completionService.take(), results, onResult);
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    private static <R> void collect(Future<R> future, List<R> results, Consumer<R> onResult)
+            throws InterruptedException {
+        try {
+            R result = future.get();
+            if (result != null) {
+                results.add(result);
+                if (onResult != null) {
+                    onResult.accept(result);
+                }
+            }
+        } catch (ExecutionException e) {
+            System.err.println("Fetch failed: " + e.getCause().getMessage());
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Java 21 의 Executors.newVirtualThreadPerTaskExecutor() 를 리플렉션으로 호출 (Java 17 에서는 null)
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface FetchTask<T, R> {
+        R fetch(T input) throws Exception;
+    }
+}
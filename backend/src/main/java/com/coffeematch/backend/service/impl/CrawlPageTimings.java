@@ -0,0 +1,68 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.dto.CrawlPageTimingDto;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크롤링 페이지 유형별 준비 시간(이동 시작 ~ 대기 조건 충족) 기록
+ * - 유형별로 최근 500개 샘플을 링 버퍼에 보관하고 평균/p50/p95/최대값을 계산
+ */
+@Service
+public class CrawlPageTimings {
+
+    private static final int SAMPLE_SIZE = 500;
+
+    private final Map<String, Samples> samplesByType = new ConcurrentHashMap<>();
+
+    /**
+     * @param timedOut 준비 조건을 기다리다 시간 초과된 경우 true
+     */
+    public void record(String pageType, long elapsedNanos, boolean timedOut) {
+        samplesByType.computeIfAbsent(pageType, type -> new Samples()).add(elapsedNanos / 1_000_000, timedOut);
+    }
+
+    public List<CrawlPageTimingDto> getTimings() {
+        List<CrawlPageTimingDto> result = new ArrayList<>();
+        samplesByType.forEach((type, samples) -> result.add(samples.toDto(type)));
+        result.sort((a, b) -> a.getPageType().compareTo(b.getPageType()));
+        return result;
+    }
+
+    private static final class Samples {
+        private final long[] millis = new long[SAMPLE_SIZE];
+        private long count;
+        private long timeouts;
+
+        synchronized void add(long elapsedMs, boolean timedOut) {
+            millis[(int) (count % SAMPLE_SIZE)] = elapsedMs;
+            count++;
+            if (timedOut) {
+                timeouts++;
+            }
+        }
+
+        synchronized CrawlPageTimingDto toDto(String type) {
+            int size = (int) Math.min(count, SAMPLE_SIZE);
+            long[] sorted = Arrays.copyOf(millis, size);
+            Arrays.sort(sorted);
+
+            CrawlPageTimingDto dto = new CrawlPageTimingDto();
+            dto.setPageType(type);
+            dto.setCount(count);
+            dto.setTimeouts(timeouts);
+            if (size > 0) {
+                dto.setAvgMs(Arrays.stream(sorted).average().orElse(0));
+                dto.setP50Ms(sorted[(size - 1) / 2]);
+                dto.setP95Ms(sorted[(int) Math.ceil(size * 0.95) - 1]);
+                dto.setMaxMs(sorted[size - 1]);
+            }
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.coffeematch.backend.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 토큰 버킷 요청 제한
+ * - 초당 rps 개씩 토큰이 채워지고 최대 burst 개까지 모아둘 수 있음
+ * - 토큰이 없으면 다음 토큰 시각을 예약하고 그때까지 대기 (대기는 락 밖에서)
+ * - 고정 sleep 대신 허용된 속도만큼만 요청하므로 병렬로 요청해도 호스트별 총량은 일정
+ */
+@Service
+public class HostRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(@Value("${crawl.rate-limit.rps:1.0}") double permitsPerSecond,
+            @Value("${crawl.rate-limit.burst:3}") double burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("crawl.rate-limit.rps must be > 0 and burst >= 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * URL 의 호스트 기준으로 요청 하나를 허가받을 때까지 대기
+     */
+    public void acquire(String url) throws InterruptedException {
+        long waitNanos = reserve(url, System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * nowNanos 시점에 토큰 하나를 예약하고 기다려야 하는 시간을 반환 (acquire 는 이 시간만큼 잠듦)
+     */
+    long reserve(String url, long nowNanos) {
+        return buckets.computeIfAbsent(hostOf(url), host -> new Bucket(nowNanos)).reserve(nowNanos);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase() : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private final class Bucket {
+        private final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        private double tokens = burst;
+        private long lastRefillNanos;
+
+        Bucket(long nowNanos) {
+            this.lastRefillNanos = nowNanos;
+        }
+
+        /**
+         * 토큰 하나를 예약하고 사용 가능 시각까지 남은 시간을 반환
+         * 토큰이 음수가 되는 것은 이미 예약된 대기자 수를 의미
+         */
+        synchronized long reserve(long now) {
+            tokens = Math.min(burst, tokens + (double) (now - lastRefillNanos) / intervalNanos);
+            lastRefillNanos = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens * intervalNanos);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.service.DiscoveryService.CrawledCafeData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카카오 로컬 API 사각형(rect) 카테고리 검색으로 영역 전체를 격자 단위로 훑는 탐색기
+ * - 영역을 초기 셀(crawl.kakao.grid.initial-cell-meters)로 나누고 셀마다 검색
+ * - 셀 결과가 API 최대치(45건)를 넘으면 그 셀은 더 읽지 않고 4등분해서 다음 단계에서 다시 검색
+ * - 결과가 적은 셀은 1~3 페이지만 요청하므로 지역명 검색보다 요청 수가 적고 빠지는 곳이 없음
+ * - 셀은 CrawlFetchExecutor 로 동시에 검색하고, 요청마다 HostRateLimiter 토큰을 받음
+ * - 셀 경계에 걸친 장소는 양쪽에서 나올 수 있으므로 place id 로 중복 제거
+ * - 초기 셀 수가 crawl.kakao.grid.max-cells 를 넘는 영역은 요청 전에 거부
+ * - 검색에 실패한 셀은 결과의 failedCellRects 에 rect 로 남겨서 그 영역만 다시 탐색할 수 있게 함
+ */
+@Service
+public class KakaoGeoGridSearch {
+
+    private static final String KAKAO_CATEGORY_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/category.json";
+    private static final String CAFE_CATEGORY = "CE7";
+    private static final int PAGE_SIZE = 15;
+    private static final int MAX_PAGES = 3; // API 가 한 검색에 최대 45건(15 x 3)까지만 돌려줌
+    private static final int MAX_RESULTS = PAGE_SIZE * MAX_PAGES;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final String searchUrl;
+    private final String restApiKey;
+    private final HostRateLimiter hostRateLimiter;
+    private final CrawlFetchExecutor fetchExecutor;
+    private final ObjectMapper objectMapper;
+    private final int concurrency;
+    private final double initialCellMeters;
+    private final double minCellMeters;
+    private final int maxCells;
+
+    public KakaoGeoGridSearch(
+            @Value("${crawl.kakao.local-api-url:" + KAKAO_CATEGORY_SEARCH_URL + "}") String searchUrl,
+            @Value("${crawl.kakao.rest-api-key:}") String restApiKey,
+            HostRateLimiter hostRateLimiter, CrawlFetchExecutor fetchExecutor, ObjectMapper objectMapper,
+            @Value("${crawl.kakao.grid.concurrency:4}") int concurrency,
+            @Value("${crawl.kakao.grid.initial-cell-meters:2000}") double initialCellMeters,
+            @Value("${crawl.kakao.grid.min-cell-meters:50}") double minCellMeters,
+            @Value("${crawl.kakao.grid.max-cells:400}") int maxCells) {
+        this.searchUrl = searchUrl;
+        this.restApiKey = restApiKey;
+        this.hostRateLimiter = hostRateLimiter;
+        this.fetchExecutor = fetchExecutor;
+        this.objectMapper = objectMapper;
+        this.concurrency = concurrency;
+        this.initialCellMeters = initialCellMeters;
+        this.minCellMeters = minCellMeters;
+        this.maxCells = maxCells;
+    }
+
+    public boolean isConfigured() {
+        return restApiKey != null && !restApiKey.isBlank();
+    }
+
+    /**
+     * 영역 전체 탐색 - 분할이 끝날 때까지 단계별로 셀을 동시에 검색
+     *
+     * @throws IllegalArgumentException 초기 셀 수가 crawl.kakao.grid.max-cells 를 넘는 영역
+     * @throws IllegalStateException    REST API 키가 설정되지 않은 경우
+     */
+    public SweepResult sweep(GeoCell bounds) throws InterruptedException {
+        if (!isConfigured()) {
+            throw new IllegalStateException("crawl.kakao.rest-api-key is not set");
+        }
+        SweepResult sweep = new SweepResult();
+        Map<String, CrawledCafeData> places = new LinkedHashMap<>();
+        List<GeoCell> pending = initialCells(bounds);
+
+        while (!pending.isEmpty()) {
+            List<GeoCell> next = new ArrayList<>();
+            // onResult 는 호출 스레드에서 실행되므로 places/next/sweep 은 동기화 없이 갱신
+            fetchExecutor.fetchAll(pending, concurrency, this::searchCell, cell -> {
+                sweep.cellsSearched++;
+                sweep.requests += cell.requests;
+                if (cell.failed) {
+                    sweep.failedCells++;
+                    sweep.failedCellRects.add(cell.cell.toRect());
+                } else if (cell.split) {
+                    sweep.cellsSplit++;
+                    next.addAll(cell.cell.quadrants());
+                } else {
+                    if (cell.totalCount > MAX_RESULTS) {
+                        sweep.truncatedCells++; // 최소 크기인데도 45건 초과 - 일부 누락
+                    }
+                    for (CrawledCafeData place : cell.places) {
+                        places.putIfAbsent(place.getPlatformId(), place);
+                    }
+                }
+            });
+            pending = next;
+        }
+
+        sweep.places = new ArrayList<>(places.values());
+        return sweep;
+    }
+
+    private List<GeoCell> initialCells(GeoCell bounds) {
+        long rowCount = Math.max(1, (long) Math.ceil(bounds.heightMeters() / initialCellMeters));
+        long colCount = Math.max(1, (long) Math.ceil(bounds.widthMeters() / initialCellMeters));
+        if (rowCount * colCount > maxCells) {
+            throw new IllegalArgumentException("Area needs " + rowCount * colCount + " initial cells of "
+                    + (long) initialCellMeters + "m, more than crawl.kakao.grid.max-cells=" + maxCells
+                    + " - split the area into smaller requests");
+        }
+        int rows = (int) rowCount;
+        int cols = (int) colCount;
+        double latStep = (bounds.maxLat - bounds.minLat) / rows;
+        double lngStep = (bounds.maxLng - bounds.minLng) / cols;
+        List<GeoCell> cells = new ArrayList<>(rows * cols);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cells.add(new GeoCell(bounds.minLat + row * latStep, bounds.minLng + col * lngStep,
+                        row == rows - 1 ? bounds.maxLat : bounds.minLat + (row + 1) * latStep,
+                        col == cols - 1 ? bounds.maxLng : bounds.minLng + (col + 1) * lngStep));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 셀 하나 검색 - 첫 페이지의 total_count 가 최대치를 넘고 더 쪼갤 수 있으면 바로 분할 표시
+     * - 요청 실패나 응답 형식 오류(좌표 파싱 실패 등)는 이 셀만 실패로 표시하고 전체 탐색은 계속
+     */
+    private CellResult searchCell(GeoCell cell) throws InterruptedException {
+        CellResult result = new CellResult(cell);
+        try {
+            for (int page = 1; page <= MAX_PAGES; page++) {
+                JsonNode body = fetchPage(cell, page);
+                result.requests++;
+                if (page == 1) {
+                    result.totalCount = body.path("meta").path("total_count").asInt();
+                    if (result.totalCount > MAX_RESULTS && cell.canSplit(minCellMeters)) {
+                        result.split = true;
+                        return result;
+                    }
+                }
+                for (JsonNode document : body.path("documents")) {
+                    result.places.add(toCrawledCafe(document));
+                }
+                if (body.path("meta").path("is_end").asBoolean(true)) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Grid cell search failed " + cell + ": " + e);
+            result.failed = true;
+        }
+        return result;
+    }
+
+    private JsonNode fetchPage(GeoCell cell, int page) throws IOException, InterruptedException {
+        String url = searchUrl + "?category_group_code=" + CAFE_CATEGORY + "&rect=" + cell.toRect()
+                + "&page=" + page + "&size=" + PAGE_SIZE;
+        hostRateLimiter.acquire(url);
+        String json = Jsoup.connect(url)
+                .header("Authorization", "KakaoAK " + restApiKey)
+                .ignoreContentType(true)
+                .execute()
+                .body();
+        return objectMapper.readTree(json);
+    }
+
+    private static CrawledCafeData toCrawledCafe(JsonNode document) {
+        String address = document.path("road_address_name").asText("");
+        if (address.isEmpty()) {
+            address = document.path("address_name").asText("");
+        }
+        return new CrawledCafeData(
+                document.path("id").asText(),
+                document.path("place_name").asText(),
+                address,
+                document.path("phone").asText(""),
+                document.hasNonNull("y") ? Double.parseDouble(document.get("y").asText()) : null,
+                document.hasNonNull("x") ? Double.parseDouble(document.get("x").asText()) : null);
+    }
+
+    /**
+     * 위경도 사각형 (min 포함, max 포함 - 경계 중복은 id 로 제거)
+     */
+    public static class GeoCell {
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+
+        public GeoCell(double minLat, double minLng, double maxLat, double maxLng) {
+            if (minLat >= maxLat || minLng >= maxLng) {
+                throw new IllegalArgumentException("min coordinates must be smaller than max coordinates");
+            }
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+        }
+
+        double heightMeters() {
+            return (maxLat - minLat) * METERS_PER_DEGREE_LAT;
+        }
+
+        double widthMeters() {
+            double midLat = Math.toRadians((minLat + maxLat) / 2);
+            return (maxLng - minLng) * METERS_PER_DEGREE_LAT * Math.cos(midLat);
+        }
+
+        // 4등분한 셀의 변이 최소 크기 이상일 때만 분할
+        boolean canSplit(double minCellMeters) {
+            return Math.min(heightMeters(), widthMeters()) / 2 >= minCellMeters;
+        }
+
+        List<GeoCell> quadrants() {
+            double midLat = (minLat + maxLat) / 2;
+            double midLng = (minLng + maxLng) / 2;
+            return List.of(
+                    new GeoCell(minLat, minLng, midLat, midLng),
+                    new GeoCell(minLat, midLng, midLat, maxLng),
+                    new GeoCell(midLat, minLng, maxLat, midLng),
+                    new GeoCell(midLat, midLng, maxLat, maxLng));
+        }
+
+        // 카카오 rect 형식: 좌측 X(경도), 좌측 Y(위도), 우측 X, 우측 Y
+        String toRect() {
+            return minLng + "," + minLat + "," + maxLng + "," + maxLat;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + toRect() + "]";
+        }
+    }
+
+    private static class CellResult {
+        private final GeoCell cell;
+        private final List<CrawledCafeData> places = new ArrayList<>();
+        private int totalCount;
+        private int requests;
+        private boolean split;
+        private boolean failed;
+
+        CellResult(GeoCell cell) {
+            this.cell = cell;
+        }
+    }
+
+    /**
+     * 탐색 결과와 요청/분할 통계
+     */
+    public static class SweepResult {
+        private List<CrawledCafeData> places = new ArrayList<>();
+        private int cellsSearched;
+        private int cellsSplit;
+        private int truncatedCells;
+        private int failedCells;
+        private final List<String> failedCellRects = new ArrayList<>();
+        private int requests;
+
+        public List<CrawledCafeData> getPlaces() {
+            return places;
+        }
+
+        public int getCellsSearched() {
+            return cellsSearched;
+        }
+
+        public int getCellsSplit() {
+            return cellsSplit;
+        }
+
+        public int getTruncatedCells() {
+            return truncatedCells;
+        }
+
+        public int getFailedCells() {
+            return failedCells;
+        }
+
+        /**
+         * 검색에 실패한 셀 (카카오 rect 형식 "minLng,minLat,maxLng,maxLat")
+         */
+        public List<String> getFailedCellRects() {
+            return failedCellRects;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+    }
+}
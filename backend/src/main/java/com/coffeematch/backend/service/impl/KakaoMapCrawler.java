@@ -1,272 +1,539 @@
 package com.coffeematch.backend.service.impl;
 
 import com.coffeematch.backend.dto.CrawlDataDto;
+import com.coffeematch.backend.dto.ReviewDetailDto;
+import com.coffeematch.backend.entity.Platform;
 import com.coffeematch.backend.service.CrawlerService;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.coffeematch.backend.service.DiscoveryService;
+import com.coffeematch.backend.service.IncrementalUpdateService;
+import com.coffeematch.backend.service.PlaceExistenceChecker;
+import com.coffeematch.backend.service.ReviewCrawler;
+import jakarta.annotation.PreDestroy;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service("kakaoMapCrawler")
-public class KakaoMapCrawler implements CrawlerService {
+public class KakaoMapCrawler implements CrawlerService, ReviewCrawler, PlaceExistenceChecker {
 
     private static final String KAKAO_MAP_URL = "https://map.kakao.com/";
+    private static final String KAKAO_PLACE_URL = "https://place.map.kakao.com/";
+    private static final String SNAPSHOT_SEARCH = "kakao.search";
+    private static final String SNAPSHOT_DETAIL = "kakao.detail";
+    private static final String SNAPSHOT_EXISTENCE = "kakao.existence";
+
+    private static final By SEARCH_ITEMS = By.cssSelector(KakaoPlaceParser.SEARCH_ITEM_SELECTOR);
+    private static final By NO_RESULT = By.id("info.noPlace");
+    private static final By DETAIL_NAME = By.cssSelector(KakaoPlaceParser.DETAIL_NAME_SELECTOR);
+    private static final By REVIEW_ITEMS = By.cssSelector(KakaoPlaceParser.REVIEW_ITEM_SELECTOR);
+    private static final By MORE_REVIEWS = By.cssSelector(KakaoPlaceParser.MORE_REVIEWS_SELECTOR);
+    private static final By PLACE_NOT_FOUND = By.cssSelector(KakaoPlaceParser.PLACE_NOT_FOUND_SELECTOR);
+    private static final By MORE_BUTTON = By.id("info.search.place.more");
+    private static final By PAGER = By.id("info.search.page");
+    private static final By NEXT_BUTTON = By.id("info.search.page.next");
+    private static final By ACTIVE_PAGE = By.cssSelector("#info\\.search\\.page a.ACTIVE");
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final WebDriverPool webDriverPool;
+    private final HostRateLimiter hostRateLimiter;
+    private final CrawlPageTimings pageTimings;
+    private final PageSnapshotStore snapshotStore;
+    private final ExecutorService detailExecutor;
+
+    // 페이지 준비 조건 최대 대기 시간 / 선택 요소(리뷰 목록) 최대 대기 시간
+    private final Duration readyTimeout;
+    private final Duration optionalWait;
+
+    @Value("${crawl.kakao.max-pages:10}")
+    private int maxPages;
+
+    @Value("${crawl.kakao.max-review-pages:20}")
+    private int maxReviewPages;
+
+    public KakaoMapCrawler(WebDriverPool webDriverPool, HostRateLimiter hostRateLimiter,
+            CrawlPageTimings pageTimings, PageSnapshotStore snapshotStore,
+            @Value("${crawl.kakao.detail-concurrency:4}") int detailConcurrency,
+            @Value("${crawl.kakao.ready-timeout-ms:10000}") long readyTimeoutMs,
+            @Value("${crawl.kakao.optional-wait-ms:1500}") long optionalWaitMs) {
+        this.webDriverPool = webDriverPool;
+        this.hostRateLimiter = hostRateLimiter;
+        this.pageTimings = pageTimings;
+        this.snapshotStore = snapshotStore;
+        this.readyTimeout = Duration.ofMillis(readyTimeoutMs);
+        this.optionalWait = Duration.ofMillis(optionalWaitMs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.detailExecutor = Executors.newFixedThreadPool(detailConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "kakao-detail-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        detailExecutor.shutdownNow();
+    }
 
     @Override
     public List<CrawlDataDto> crawl(String keyword, int limit) {
-        List<CrawlDataDto> results = new ArrayList<>();
-
-        // Setup WebDriver
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--remote-allow-origins=*");
-
-        WebDriver driver = new ChromeDriver(options);
-
-        try {
-            driver.get(KAKAO_MAP_URL);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        return crawl(keyword, limit, new AtomicBoolean());
+    }
 
-            // Search
-            WebElement searchBox = driver.findElement(By.id("search.keyword.query"));
-            searchBox.sendKeys(keyword + " 카페");
-            driver.findElement(By.id("search.keyword.submit")).click();
+    /**
+     * 검색 결과를 여러 페이지에 걸쳐 최대 limit 개까지 수집
+     *
+     * @param stop true 로 바꾸면 다음 페이지로 넘어가지 않고 지금까지의 결과를 반환
+     */
+    public List<CrawlDataDto> crawl(String keyword, int limit, AtomicBoolean stop) {
+        List<CrawlDataDto> results = new ArrayList<>();
+        searchPages(keyword + " 카페", limit, stop,
+                item -> item.getCategory().contains("카페") || item.getCategory().contains("커피"),
+                item -> results.add(item.toCrawlData()));
+        return results;
+    }
 
-            Thread.sleep(2000); // Wait for results
+    public List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> crawlDetail(String keyword, int limit) {
+        return crawlDetail(keyword, limit, new AtomicBoolean());
+    }
 
-            // Determine if more results button exists, but for now just scrape first page
-            List<WebElement> items = driver
-                    .findElements(By.cssSelector("#info\\.search\\.place\\.list > li.PlaceItem"));
+    /**
+     * 검색 결과 페이지를 넘기면서 상세 페이지를 함께 수집 (파이프라인)
+     * - 한 페이지의 항목은 바로 상세 수집 작업으로 넘기고, 그동안 다음 검색 페이지로 이동
+     * - 결과는 검색 순서대로 반환, stop 이 true 가 되면 남은 작업을 취소하고 완료된 것만 반환
+     */
+    public List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> crawlDetail(String keyword, int limit,
+            AtomicBoolean stop) {
+        List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> results = new ArrayList<>();
+        List<String> detailUrls = new ArrayList<>();
+        List<Future<com.coffeematch.backend.dto.CrawlerCafeDetailDto>> futures = new ArrayList<>();
+
+        // 1. Search Phase - each accepted item is handed to the detail executor right away
+        searchPages(keyword + " 베이커리", limit, stop, // Keyword adjustment
+                item -> !item.getDetailUrl().isEmpty() && (item.getCategory().contains("카페")
+                        || item.getCategory().contains("커피") || item.getCategory().contains("베이커리")),
+                item -> {
+                    String url = item.getDetailUrl();
+                    detailUrls.add(url);
+                    futures.add(detailExecutor.submit(() -> stop.get() ? null : fetchDetail(url)));
+                });
 
-            for (WebElement item : items) {
-                if (results.size() >= limit)
-                    break;
+        // 2. Detail Phase - collect in search order
+        for (int i = 0; i < futures.size(); i++) {
+            if (stop.get()) {
+                futures.forEach(future -> future.cancel(true));
+            }
+            try {
+                com.coffeematch.backend.dto.CrawlerCafeDetailDto cafe = futures.get(i).get();
+                if (cafe != null) {
+                    results.add(cafe);
+                }
+            } catch (CancellationException ignored) {
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                System.err.println("Error parsing detail: " + detailUrls.get(i) + " - " + e.getCause().getMessage());
+            }
+        }
 
-                try {
-                    String name = item.findElement(By.cssSelector("div.head_item > strong.tit_name > a.link_name"))
-                            .getText();
-                    String category = item.findElement(By.cssSelector("div.head_item > span.subcategory")).getText();
+        return results;
+    }
 
-                    if (!category.contains("카페") && !category.contains("커피"))
-                        continue;
+    /**
+     * 지역 탐색용 검색 - "지역 키워드" 검색 결과 중 카페/커피/베이커리 장소를 max-pages 까지 수집
+     * - 검색 중 오류는 삼키지 않고 던짐 (지역을 실패로 남겨 재개 때 다시 실행)
+     * - 검색 목록에는 좌표가 없으므로 위경도는 null
+     *
+     * @param region  지역명 (예: "성수동")
+     * @param keyword 검색 키워드 (예: "카페")
+     */
+    public List<DiscoveryService.CrawledCafeData> searchRegion(String region, String keyword) throws Exception {
+        List<DiscoveryService.CrawledCafeData> places = new ArrayList<>();
+        searchPagesOrThrow(region + " " + keyword, Integer.MAX_VALUE, new AtomicBoolean(),
+                item -> !item.getDetailUrl().isEmpty() && (item.getCategory().contains("카페")
+                        || item.getCategory().contains("커피") || item.getCategory().contains("베이커리")),
+                item -> places.add(new DiscoveryService.CrawledCafeData(placeId(item.getDetailUrl()), item.getName(),
+                        item.getAddress(), item.getPhone(), null, null)));
+        return places;
+    }
 
-                    String address = item.findElement(By.cssSelector("div.info_item > div.addr > p")).getText();
+    /**
+     * 검색 후 결과 페이지를 차례로 넘기며 조건에 맞는 항목을 sink 로 전달 (오류는 로그만 남기고 지금까지의 결과로 종료)
+     */
+    private void searchPages(String query, int limit, AtomicBoolean stop,
+            Predicate<KakaoPlaceParser.PlaceItem> filter, Consumer<KakaoPlaceParser.PlaceItem> sink) {
+        try {
+            searchPagesOrThrow(query, limit, stop, filter, sink);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
 
-                    String phone = "";
-                    try {
-                        phone = item.findElement(By.cssSelector("div.info_item > div.contact > span.phone")).getText();
-                    } catch (Exception ignored) {
-                    }
+    /**
+     * 검색 후 결과 페이지를 차례로 넘기며 조건에 맞는 항목을 sink 로 전달
+     * - limit 개를 채우거나, 마지막 페이지이거나, max-pages 에 도달하거나, stop 이 true 면 종료
+     * - 페이지를 넘길 때마다 요청 제한 토큰을 받음, 같은 상세 URL 은 한 번만 전달
+     */
+    private void searchPagesOrThrow(String query, int limit, AtomicBoolean stop,
+            Predicate<KakaoPlaceParser.PlaceItem> filter, Consumer<KakaoPlaceParser.PlaceItem> sink) throws Exception {
+        Set<String> seen = new HashSet<>();
+        int emitted = 0;
+        hostRateLimiter.acquire(KAKAO_MAP_URL);
+        try (WebDriverPool.Lease lease = webDriverPool.acquire()) {
+            long started = System.nanoTime();
+            lease.navigate(KAKAO_MAP_URL);
+            List<KakaoPlaceParser.PlaceItem> items = lease.execute(driver -> {
+                WebElement searchBox = waitFor(driver)
+                        .until(ExpectedConditions.elementToBeClickable(By.id("search.keyword.query")));
+                searchBox.sendKeys(query);
+                driver.findElement(By.id("search.keyword.submit")).click();
+
+                boolean ready = awaitReady(driver, ExpectedConditions.or(
+                        ExpectedConditions.presenceOfElementLocated(SEARCH_ITEMS),
+                        ExpectedConditions.visibilityOfElementLocated(NO_RESULT)));
+                pageTimings.record("kakao.search", System.nanoTime() - started, !ready);
+                if (!ready) {
+                    // 결과도 "검색 결과 없음"도 나오지 않음 - 빈 결과로 보지 않음
+                    throw new TimeoutException("Search results did not load: " + query);
+                }
+                return parseSearchPage(driver);
+            });
 
-                    String rating = "0.0";
-                    try {
-                        rating = item.findElement(By.cssSelector("div.rating > span.score > em")).getText();
-                    } catch (Exception ignored) {
+            for (int page = 1;; page++) {
+                for (KakaoPlaceParser.PlaceItem item : items) {
+                    if (emitted >= limit || stop.get()) {
+                        return;
                     }
-
-                    String reviewCount = "0";
-                    try {
-                        reviewCount = item.findElement(By.cssSelector("div.rating > a.numberofscore")).getText()
-                                .replace("건", "");
-                    } catch (Exception ignored) {
+                    String key = item.getDetailUrl().isEmpty()
+                            ? item.getName() + "|" + item.getAddress()
+                            : item.getDetailUrl();
+                    if (filter.test(item) && seen.add(key)) {
+                        sink.accept(item);
+                        emitted++;
                     }
+                }
+                if (items.isEmpty() || page >= maxPages || emitted >= limit || stop.get()) {
+                    return;
+                }
 
-                    String detailUrl = item.findElement(By.cssSelector("div.contact > a.moreview"))
-                            .getAttribute("href");
-
-                    results.add(CrawlDataDto.builder()
-                            .source("KAKAO_MAP")
-                            .name(name)
-                            .address(address)
-                            .phone(phone)
-                            .rating(rating)
-                            .reviewCount(reviewCount)
-                            .url(detailUrl)
-                            .build());
-
-                } catch (Exception e) {
-                    System.err.println("Error parsing map item: " + e.getMessage());
+                int nextPage = page + 1;
+                hostRateLimiter.acquire(KAKAO_MAP_URL);
+                items = lease.execute(driver -> goToPage(driver, nextPage));
+                if (items == null) {
+                    return; // no more pages
                 }
             }
+        }
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            if (driver != null) {
-                driver.quit();
+    /**
+     * 검색 결과 목록을 page 번째 페이지로 이동하고 파싱
+     * - 첫 이동 때는 "장소 더보기"로 페이지 번호 영역을 연다
+     * - 페이지 번호는 다섯 개씩 보이므로 6, 11, ... 페이지는 "다음" 버튼으로 이동
+     *
+     * @return 해당 페이지의 항목, 더 이상 페이지가 없으면 null
+     */
+    private List<KakaoPlaceParser.PlaceItem> goToPage(WebDriver driver, int page) {
+        long started = System.nanoTime();
+        String previousFirstItem = firstItemText(driver);
+
+        WebElement pager = first(driver.findElements(PAGER));
+        if (pager == null || !pager.isDisplayed()) {
+            WebElement more = first(driver.findElements(MORE_BUTTON));
+            if (more == null || !more.isDisplayed()) {
+                return null;
+            }
+            more.click();
+            if (!awaitReady(driver, ExpectedConditions.visibilityOfElementLocated(PAGER))) {
+                return null;
             }
         }
 
-        return results;
-    }
-
-    public List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> crawlDetail(String keyword, int limit) {
-        List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> results = new ArrayList<>();
+        if (activePage(driver) != page) {
+            int slot = (page - 1) % 5 + 1;
+            WebElement button = first(driver.findElements(slot == 1 ? NEXT_BUTTON : By.id("info.search.page.no" + slot)));
+            if (button == null || !button.isDisplayed() || hasClass(button, "disabled") || hasClass(button, "HIDDEN")) {
+                return null;
+            }
+            button.click();
+        }
 
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--remote-allow-origins=*");
-        // Random User-Agent could be added here
-        options.addArguments(
-                "user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        // 번호가 바뀌고 목록 내용도 바뀌어야 준비 완료 (목록은 같은 자리에서 다시 그려짐)
+        boolean ready = awaitReady(driver, d -> activePage(d) == page
+                && (previousFirstItem == null || !previousFirstItem.equals(firstItemText(d))));
+        pageTimings.record("kakao.search.page", System.nanoTime() - started, !ready);
+        if (!ready) {
+            return null;
+        }
+        return parseSearchPage(driver);
+    }
 
-        WebDriver driver = new ChromeDriver(options);
+    private List<KakaoPlaceParser.PlaceItem> parseSearchPage(WebDriver driver) {
+        String html = driver.getPageSource();
+        String url = driver.getCurrentUrl();
+        snapshotStore.store(url, SNAPSHOT_SEARCH, html);
+        return KakaoPlaceParser.parseSearchResults(html, url);
+    }
 
+    private static int activePage(WebDriver driver) {
         try {
-            // 1. Search Phase
-            driver.get(KAKAO_MAP_URL);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-
-            WebElement searchBox = driver.findElement(By.id("search.keyword.query"));
-            searchBox.sendKeys(keyword + " 베이커리"); // Keyword adjustment
-            driver.findElement(By.id("search.keyword.submit")).click();
-
-            Thread.sleep(2000);
+            WebElement active = first(driver.findElements(ACTIVE_PAGE));
+            return active != null ? Integer.parseInt(active.getText().trim()) : 1;
+        } catch (NumberFormatException | StaleElementReferenceException e) {
+            return -1;
+        }
+    }
 
-            // Collect URLs first
-            List<String> detailUrls = new ArrayList<>();
-            List<WebElement> items = driver
-                    .findElements(By.cssSelector("#info\\.search\\.place\\.list > li.PlaceItem"));
+    private static String firstItemText(WebDriver driver) {
+        try {
+            WebElement item = first(driver.findElements(SEARCH_ITEMS));
+            return item != null ? item.getText() : null;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+    }
 
-            for (WebElement item : items) {
-                if (detailUrls.size() >= limit)
-                    break;
+    private static WebElement first(List<WebElement> elements) {
+        return elements.isEmpty() ? null : elements.get(0);
+    }
 
-                try {
-                    String category = item.findElement(By.cssSelector("div.head_item > span.subcategory")).getText();
-                    if (!category.contains("카페") && !category.contains("커피") && !category.contains("베이커리"))
-                        continue;
+    private static boolean hasClass(WebElement element, String className) {
+        String classes = element.getAttribute("class");
+        return classes != null && (" " + classes + " ").contains(" " + className + " ");
+    }
 
-                    String url = item.findElement(By.cssSelector("div.contact > a.moreview")).getAttribute("href");
-                    detailUrls.add(url);
-                } catch (Exception ignored) {
+    /**
+     * 상세 페이지 하나를 풀에서 빌린 탭으로 가져와 파싱
+     */
+    private com.coffeematch.backend.dto.CrawlerCafeDetailDto fetchDetail(String url) throws Exception {
+        // 토큰을 먼저 받은 뒤 탭을 빌려 대기 중에 탭을 점유하지 않도록 함
+        hostRateLimiter.acquire(url);
+        try (WebDriverPool.Lease lease = webDriverPool.acquire()) {
+            long started = System.nanoTime();
+            lease.navigate(url);
+            return lease.execute(driver -> {
+                boolean ready = awaitReady(driver, ExpectedConditions.presenceOfElementLocated(DETAIL_NAME));
+                pageTimings.record("kakao.detail", System.nanoTime() - started, !ready);
+
+                // 리뷰는 비동기로 채워지므로 잠깐만 더 기다림 (없으면 optional-wait 후 진행)
+                if (ready) {
+                    awaitOptional(driver, ExpectedConditions.presenceOfElementLocated(REVIEW_ITEMS));
                 }
-            }
-
-            // 2. Detail Phase
-            for (String url : detailUrls) {
-                if (url == null || url.isEmpty())
-                    continue;
-
-                try {
-                    // Random delay between requests
-                    Thread.sleep((long) (1000 + Math.random() * 2000));
+                String html = driver.getPageSource();
+                snapshotStore.store(url, SNAPSHOT_DETAIL, html);
+                return KakaoPlaceParser.parseDetail(html, url);
+            });
+        }
+    }
 
-                    driver.get(url);
-                    Thread.sleep(1500);
+    @Override
+    public Platform getPlatform() {
+        return Platform.KAKAO_MAP;
+    }
 
-                    com.coffeematch.backend.dto.CrawlerCafeDetailDto cafe = new com.coffeematch.backend.dto.CrawlerCafeDetailDto();
-                    cafe.setUrl(url);
+    @Override
+    public List<IncrementalUpdateService.CrawledReviewData> fetchReviews(String platformId) throws Exception {
+        return fetchReviews(platformId, null);
+    }
 
-                    // Basic Info
-                    try {
-                        String name = driver.findElement(By.cssSelector(".place_details .tit_location")).getText();
-                        cafe.setName(name);
-                    } catch (Exception e) {
+    /**
+     * 장소 상세 페이지의 리뷰 (증분 리뷰 수집용)
+     * - "후기 더보기"로 다음 리뷰를 펼치다가 마지막 리뷰가 since 보다 오래됐으면 중단 (max-review-pages 까지)
+     * - 날짜 표기 단위(일)를 감안해 since 하루 전보다 오래된 리뷰부터 이미 수집한 것으로 봄
+     * - 카카오 상세 페이지에는 리뷰 id 가 노출되지 않으므로 "장소 id:작성자/평점/내용의 SHA-256" 을 platformReviewId 로 사용
+     *   (리뷰 키는 플랫폼 전체에서 유일해야 하므로 다른 장소의 같은 리뷰와 겹치지 않게 장소 id 를 붙임)
+     *
+     * @param platformId 카카오 장소 id 또는 상세 페이지 URL
+     * @param since      마지막으로 수집한 리뷰 시각 (null 이면 max-review-pages 까지)
+     */
+    @Override
+    public List<IncrementalUpdateService.CrawledReviewData> fetchReviews(String platformId, LocalDateTime since)
+            throws Exception {
+        String url = platformId.startsWith("http") ? platformId : KAKAO_PLACE_URL + platformId;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime stopBefore = since != null ? since.minusDays(1) : null;
+
+        String html;
+        hostRateLimiter.acquire(url);
+        try (WebDriverPool.Lease lease = webDriverPool.acquire()) {
+            long started = System.nanoTime();
+            lease.navigate(url);
+            html = lease.execute(driver -> {
+                boolean ready = awaitReady(driver, ExpectedConditions.presenceOfElementLocated(DETAIL_NAME));
+                pageTimings.record("kakao.detail", System.nanoTime() - started, !ready);
+                if (!ready) {
+                    return driver.getPageSource();
+                }
+                awaitOptional(driver, ExpectedConditions.presenceOfElementLocated(REVIEW_ITEMS));
+                for (int page = 1; page < maxReviewPages; page++) {
+                    List<ReviewDetailDto> loaded = KakaoPlaceParser.parseReviews(driver.getPageSource(), url);
+                    if (loaded.isEmpty() || isOlderThan(loaded.get(loaded.size() - 1), stopBefore, now)) {
+                        break;
                     }
-
-                    try {
-                        String address = driver.findElement(By.cssSelector(".location_detail .txt_address")).getText();
-                        cafe.setAddress(address);
-                    } catch (Exception e) {
+                    WebElement more = first(driver.findElements(MORE_REVIEWS));
+                    if (more == null || !more.isDisplayed()) {
+                        break; // 마지막 리뷰까지 펼침
                     }
-
-                    try {
-                        // Biz hour might be hidden or complex, try simple extraction
-                        String hours = driver.findElement(By.cssSelector(".location_detail .txt_operation")).getText()
-                                .replace("\n", " ");
-                        cafe.setBusinessHours(hours);
-                    } catch (Exception e) {
-                        cafe.setBusinessHours("");
+                    int before = driver.findElements(REVIEW_ITEMS).size();
+                    hostRateLimiter.acquire(url); // 더보기도 같은 호스트 요청
+                    more.click();
+                    if (!awaitReady(driver, d -> d.findElements(REVIEW_ITEMS).size() > before)) {
+                        break;
                     }
+                }
+                return driver.getPageSource();
+            });
+        }
+        snapshotStore.store(url, SNAPSHOT_DETAIL, html);
 
-                    try {
-                        String cat = driver.findElement(By.cssSelector(".place_details .txt_location")).getText();
-                        cafe.setCategory(cat);
-                    } catch (Exception e) {
-                    }
-
-                    // Reviews
-                    // Click "More" on reviews if available. The selector for review list is usually
-                    // #mArticle > div.cont_evaluation > ...
-                    // There is a "more" button often defined as `.link_more` inside the review
-                    // section
-
-                    // Note: Kakao Map review structure is complex. We'll try to scroll and load.
-                    // For simplicity in this v1, we extract currently visible reviews.
-                    // To click "more", we look for "후기 더보기" button.
-
-                    List<com.coffeematch.backend.dto.ReviewDetailDto> reviews = new ArrayList<>();
-
-                    // Try parsing reviews
-                    // Selector for review items: .list_evaluation > li
-
-                    int reviewLimit = 5; // limit per cafe for now
-
-                    List<WebElement> reviewEls = driver.findElements(By.cssSelector(".list_evaluation > li"));
-                    for (WebElement el : reviewEls) {
-                        if (reviews.size() >= reviewLimit)
-                            break;
-                        try {
-                            com.coffeematch.backend.dto.ReviewDetailDto review = new com.coffeematch.backend.dto.ReviewDetailDto();
-
-                            String nickname = el.findElement(By.cssSelector(".link_user")).getText();
-                            review.setNickname(nickname);
+        List<IncrementalUpdateService.CrawledReviewData> reviews = new ArrayList<>();
+        for (ReviewDetailDto review : KakaoPlaceParser.parseReviews(html, url)) {
+            if (isOlderThan(review, stopBefore, now)) {
+                break; // 최신순이므로 이후는 모두 이미 수집한 리뷰
+            }
+            reviews.add(new IncrementalUpdateService.CrawledReviewData(
+                    reviewId(placeId(platformId), review), review.getNickname(), parseRating(review.getRating()), review.getContent(),
+                    KoreanDateParser.parse(review.getDate(), now),
+                    review.getImageUrl().isEmpty() ? null : review.getImageUrl()));
+        }
+        return reviews;
+    }
 
-                            String rating = el.findElement(By.cssSelector(".grade_star")).getText().replace("점", "");
-                            review.setRating(rating);
+    /**
+     * 장소 상세 페이지를 브라우저로 열어 장소가 남아 있는지 확인 (폐업 검증용)
+     * - 상세 페이지는 스크립트로 그려지므로 HTTP 상태는 삭제된 장소도 200 - 렌더링 결과로 판단
+     * - 장소 이름이 나타나면 있음, "장소 정보가 없습니다" 안내 화면이 나타나면 없음
+     * - 둘 다 아니면(로딩 지연, 차단 화면, 마크업 변경 등) 판단할 수 없으므로 예외
+     *   (폐업 검증 실패 횟수에 넣지 않음 - 판단이 어려운 페이지는 스냅샷으로 남김)
+     */
+    @Override
+    public boolean exists(String platformId) throws Exception {
+        String url = platformId.startsWith("http") ? platformId : KAKAO_PLACE_URL + platformId;
+        hostRateLimiter.acquire(url);
+        try (WebDriverPool.Lease lease = webDriverPool.acquire()) {
+            long started = System.nanoTime();
+            lease.navigate(url);
+            return lease.execute(driver -> {
+                boolean ready = awaitReady(driver, ExpectedConditions.or(
+                        ExpectedConditions.presenceOfElementLocated(DETAIL_NAME),
+                        ExpectedConditions.presenceOfElementLocated(PLACE_NOT_FOUND)));
+                pageTimings.record("kakao.existence", System.nanoTime() - started, !ready);
+                if (!driver.findElements(DETAIL_NAME).isEmpty()) {
+                    return true;
+                }
+                if (!driver.findElements(PLACE_NOT_FOUND).isEmpty()) {
+                    return false; // 안내 화면
+                }
+                snapshotStore.store(url, SNAPSHOT_EXISTENCE, driver.getPageSource());
+                throw new IllegalStateException((ready ? "Place page shows neither name nor not-found notice: "
+                        : "Place page did not finish loading: ") + url);
+            });
+        }
+    }
 
-                            String content = el.findElement(By.cssSelector(".txt_comment")).getText();
-                            review.setContent(content);
+    private static boolean isOlderThan(ReviewDetailDto review, LocalDateTime stopBefore, LocalDateTime now) {
+        if (stopBefore == null) {
+            return false;
+        }
+        LocalDateTime date = KoreanDateParser.parse(review.getDate(), now);
+        return date != null && date.isBefore(stopBefore);
+    }
 
-                            String date = el.findElement(By.cssSelector(".time_write")).getText();
-                            // Transform date if necessary (sometimes it's relative like "2달전", need parsing
-                            // logic or keep as is)
-                            review.setDate(date);
+    /**
+     * 장소 id - 상세 페이지 URL 로 받았으면 마지막 경로 조각
+     */
+    public static String placeId(String platformId) {
+        return platformId.substring(platformId.lastIndexOf('/') + 1);
+    }
 
-                            // Photo
-                            try {
-                                String img = el.findElement(By.cssSelector(".link_photo img")).getAttribute("src");
-                                review.setImageUrl(img);
-                            } catch (Exception noImg) {
-                                review.setImageUrl("");
-                            }
+    /**
+     * 리뷰 id - "장소 id:작성자/평점/내용의 SHA-256"
+     * - 상대 날짜("2달전")는 시간이 지나면 바뀌므로 id 에 넣지 않음
+     * - 장소 id 를 앞에 두는 형식은 UniqueKeyMigration 이 기존 리뷰 id 를 옮길 때도 같은 규칙으로 사용
+     */
+    public static String reviewId(String placeId, ReviewDetailDto review) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((review.getNickname() + "\n" + review.getRating() + "\n" + review.getContent())
+                    .getBytes(StandardCharsets.UTF_8));
+            return placeId + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-                            reviews.add(review);
-                        } catch (Exception e) {
-                            // ignore broken review
-                        }
-                    }
+    private static Integer parseRating(String rating) {
+        try {
+            return (int) Math.round(Double.parseDouble(rating.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-                    cafe.setReviews(reviews);
-                    results.add(cafe);
+    /**
+     * 저장된 상세 페이지(URL 별 최신)를 브라우저 없이 다시 파싱 (셀렉터 수정 후 재처리용)
+     */
+    public List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> reparseDetailsFromSnapshots() throws IOException {
+        List<com.coffeematch.backend.dto.CrawlerCafeDetailDto> results = new ArrayList<>();
+        for (PageSnapshotStore.PageSnapshot snapshot : snapshotStore.latestByUrl(SNAPSHOT_DETAIL)) {
+            results.add(KakaoPlaceParser.parseDetail(snapshotStore.load(snapshot.getHash()), snapshot.getUrl()));
+        }
+        return results;
+    }
 
-                } catch (Exception e) {
-                    System.err.println("Error parsing detail: " + url + " - " + e.getMessage());
-                }
-            }
+    private WebDriverWait waitFor(WebDriver driver) {
+        return new WebDriverWait(driver, readyTimeout, POLL_INTERVAL);
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            if (driver != null) {
-                driver.quit();
-            }
+    /**
+     * 조건이 충족될 때까지 대기
+     *
+     * @return 제한 시간 안에 충족되면 true
+     */
+    private boolean awaitReady(WebDriver driver, ExpectedCondition<?> condition) {
+        try {
+            waitFor(driver).until(condition);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
         }
+    }
 
-        return results;
+    private void awaitOptional(WebDriver driver, ExpectedCondition<?> condition) {
+        try {
+            new WebDriverWait(driver, optionalWait, POLL_INTERVAL).until(condition);
+        } catch (TimeoutException ignored) {
+        }
     }
 }
@@ -0,0 +1,174 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.dto.CrawlDataDto;
+import com.coffeematch.backend.dto.CrawlerCafeDetailDto;
+import com.coffeematch.backend.dto.ReviewDetailDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오맵 페이지 HTML 파서 (jsoup)
+ * - 브라우저에서는 페이지 준비 여부만 기다리고, 값 추출은 page source 한 번으로 처리
+ * - 선택 요소(전화번호, 평점, 사진 등)가 없으면 대기 없이 기본값
+ * - 브라우저 없이도 호출할 수 있어 저장된 HTML 재파싱/벤치마크에 사용
+ */
+public final class KakaoPlaceParser {
+
+    static final String SEARCH_ITEM_SELECTOR = "#info\\.search\\.place\\.list > li.PlaceItem";
+    static final String DETAIL_NAME_SELECTOR = ".place_details .tit_location";
+    static final String REVIEW_ITEM_SELECTOR = ".list_evaluation > li";
+    static final String MORE_REVIEWS_SELECTOR = ".evaluation_review .link_more";
+    // 삭제/비공개 장소의 안내 화면 (상세 정보 대신 표시됨)
+    static final String PLACE_NOT_FOUND_SELECTOR = ".error_page, .desc_error, .wrap_error";
+
+    private static final int REVIEW_LIMIT = 5; // limit per cafe for now
+
+    private KakaoPlaceParser() {
+    }
+
+    /**
+     * 검색 결과 목록 파싱 (카테고리 필터링은 호출하는 쪽에서)
+     *
+     * @param baseUri 상세 URL 을 절대 경로로 만들 기준 URL
+     */
+    public static List<PlaceItem> parseSearchResults(String html, String baseUri) {
+        Document doc = Jsoup.parse(html, baseUri);
+        List<PlaceItem> items = new ArrayList<>();
+        for (Element el : doc.select(SEARCH_ITEM_SELECTOR)) {
+            try {
+                PlaceItem item = new PlaceItem();
+                item.name = text(el, "div.head_item > strong.tit_name > a.link_name");
+                item.category = text(el, "div.head_item > span.subcategory");
+                item.address = text(el, "div.info_item > div.addr > p");
+                item.phone = text(el, "div.info_item > div.contact > span.phone");
+                item.rating = orDefault(text(el, "div.rating > span.score > em"), "0.0");
+                item.reviewCount = orDefault(text(el, "div.rating > a.numberofscore").replace("건", ""), "0");
+                Element moreView = el.selectFirst("div.contact > a.moreview");
+                item.detailUrl = moreView != null ? moreView.absUrl("href") : "";
+                items.add(item);
+            } catch (Exception e) {
+                System.err.println("Error parsing map item: " + e.getMessage());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 상세 페이지 파싱 (리뷰는 앞에서부터 최대 5개)
+     */
+    public static CrawlerCafeDetailDto parseDetail(String html, String url) {
+        Document doc = Jsoup.parse(html, url);
+
+        CrawlerCafeDetailDto cafe = new CrawlerCafeDetailDto();
+        cafe.setUrl(url);
+        cafe.setName(nullIfEmpty(text(doc, DETAIL_NAME_SELECTOR)));
+        cafe.setAddress(nullIfEmpty(text(doc, ".location_detail .txt_address")));
+        cafe.setBusinessHours(text(doc, ".location_detail .txt_operation"));
+        cafe.setCategory(nullIfEmpty(text(doc, ".place_details .txt_location")));
+        cafe.setReviews(parseReviews(doc, REVIEW_LIMIT));
+        return cafe;
+    }
+
+    /**
+     * 상세 페이지에 지금까지 펼쳐진 리뷰 전체 (화면 순서 = 최신순)
+     */
+    public static List<ReviewDetailDto> parseReviews(String html, String url) {
+        return parseReviews(Jsoup.parse(html, url), Integer.MAX_VALUE);
+    }
+
+    private static List<ReviewDetailDto> parseReviews(Document doc, int limit) {
+        List<ReviewDetailDto> reviews = new ArrayList<>();
+        for (Element el : doc.select(REVIEW_ITEM_SELECTOR)) {
+            if (reviews.size() >= limit)
+                break;
+            Element nickname = el.selectFirst(".link_user");
+            Element rating = el.selectFirst(".grade_star");
+            Element content = el.selectFirst(".txt_comment");
+            Element date = el.selectFirst(".time_write");
+            if (nickname == null || rating == null || content == null || date == null) {
+                continue; // ignore broken review
+            }
+
+            ReviewDetailDto review = new ReviewDetailDto();
+            review.setNickname(nickname.text());
+            review.setRating(rating.text().replace("점", ""));
+            review.setContent(content.text());
+            // Raw text ("2024.01.10.", "2달전") - KoreanDateParser 로 해석
+            review.setDate(date.text());
+            Element img = el.selectFirst(".link_photo img");
+            review.setImageUrl(img != null ? img.absUrl("src") : "");
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    private static String text(Element root, String selector) {
+        Element el = root.selectFirst(selector);
+        return el != null ? el.text() : "";
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value.isEmpty() ? defaultValue : value;
+    }
+
+    private static String nullIfEmpty(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 검색 결과 한 건
+     */
+    public static class PlaceItem {
+        private String name;
+        private String category;
+        private String address;
+        private String phone;
+        private String rating;
+        private String reviewCount;
+        private String detailUrl;
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public String getPhone() {
+            return phone;
+        }
+
+        public String getRating() {
+            return rating;
+        }
+
+        public String getReviewCount() {
+            return reviewCount;
+        }
+
+        public String getDetailUrl() {
+            return detailUrl;
+        }
+
+        public CrawlDataDto toCrawlData() {
+            return CrawlDataDto.builder()
+                    .source("KAKAO_MAP")
+                    .name(name)
+                    .address(address)
+                    .phone(phone)
+                    .rating(rating)
+                    .reviewCount(reviewCount)
+                    .url(detailUrl)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.coffeematch.backend.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰/게시글에 표시되는 한국어 날짜 파서 (정규식/DateTimeFormatter 없이 한 번 훑어서 처리)
+ * - 절대 날짜: "2024.01.10.", "2024.1.10", "24.01.10.", "2024-01-10", "2024/01/10", "2024년 1월 10일",
+ *   "1월 10일"/"01.10." (연도 없으면 now 기준 올해, 미래가 되면 작년)
+ * - 상대 날짜: "방금", "방금 전", "오늘", "어제", "그제"/"그저께", "n초/분/시간/일/주/달/개월/년 전" (공백 유무 무관)
+ * - "n달 전" 은 "적어도 n달 전" 이라는 뜻이므로 반환값은 실제 시각의 상한 (조기 종료 판단에 안전)
+ * - 해석할 수 없으면 null
+ */
+public final class KoreanDateParser {
+
+    private KoreanDateParser() {
+    }
+
+    public static LocalDateTime parse(String text, LocalDateTime now) {
+        if (text == null) {
+            return null;
+        }
+        String s = text.trim();
+        if (s.isEmpty()) {
+            return null;
+        }
+
+        switch (s) {
+            case "방금":
+            case "방금 전":
+            case "방금전":
+            case "지금":
+                return now;
+            case "오늘":
+                return now.toLocalDate().atStartOfDay();
+            case "어제":
+                return now.toLocalDate().minusDays(1).atStartOfDay();
+            case "그제":
+            case "그저께":
+                return now.toLocalDate().minusDays(2).atStartOfDay();
+            default:
+                break;
+        }
+
+        if (s.endsWith("전")) {
+            return parseRelative(s, now);
+        }
+        return parseAbsolute(s, now);
+    }
+
+    /**
+     * "3시간 전", "2달전", "1 개월 전"
+     */
+    private static LocalDateTime parseRelative(String s, LocalDateTime now) {
+        int i = 0;
+        int length = s.length();
+        long amount = 0;
+        int digits = 0;
+        while (i < length && Character.isDigit(s.charAt(i))) {
+            amount = amount * 10 + (s.charAt(i) - '0');
+            digits++;
+            i++;
+        }
+        if (digits == 0 || digits > 6) {
+            return null;
+        }
+        while (i < length && s.charAt(i) == ' ') {
+            i++;
+        }
+        int unitEnd = s.length() - 1; // "전" 제외
+        while (unitEnd > i && s.charAt(unitEnd - 1) == ' ') {
+            unitEnd--;
+        }
+        switch (s.substring(i, unitEnd)) {
+            case "초":
+                return now.minusSeconds(amount);
+            case "분":
+                return now.minusMinutes(amount);
+            case "시간":
+                return now.minusHours(amount);
+            case "일":
+                return now.minusDays(amount);
+            case "주":
+            case "주일":
+                return now.minusWeeks(amount);
+            case "달":
+            case "개월":
+                return now.minusMonths(amount);
+            case "년":
+                return now.minusYears(amount);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 숫자 묶음(최대 3개)을 뽑아 연/월/일로 해석 - 구분자는 '.', '-', '/', 공백, 년/월/일
+     */
+    private static LocalDateTime parseAbsolute(String s, LocalDateTime now) {
+        int[] parts = new int[3];
+        int[] widths = new int[3];
+        int count = 0;
+        int i = 0;
+        int length = s.length();
+        while (i < length) {
+            char c = s.charAt(i);
+            if (Character.isDigit(c)) {
+                if (count == 3) {
+                    return null;
+                }
+                int value = 0;
+                int width = 0;
+                while (i < length && Character.isDigit(s.charAt(i))) {
+                    value = value * 10 + (s.charAt(i) - '0');
+                    width++;
+                    i++;
+                }
+                if (width > 4) {
+                    return null;
+                }
+                parts[count] = value;
+                widths[count] = width;
+                count++;
+            } else if (c == '.' || c == '-' || c == '/' || c == ' ' || c == '년' || c == '월' || c == '일') {
+                i++;
+            } else {
+                return null;
+            }
+        }
+
+        int year;
+        int month;
+        int day;
+        if (count == 3) {
+            year = widths[0] <= 2 ? 2000 + parts[0] : parts[0];
+            month = parts[1];
+            day = parts[2];
+        } else if (count == 2) {
+            year = now.getYear();
+            month = parts[0];
+            day = parts[1];
+        } else {
+            return null;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > 31 || year < 1990) {
+            return null;
+        }
+        try {
+            LocalDate date = LocalDate.of(year, month, day);
+            if (count == 2 && date.isAfter(now.toLocalDate())) {
+                date = date.minusYears(1);
+            }
+            return date.atStartOfDay();
+        } catch (java.time.DateTimeException e) {
+            return null; // 2월 30일 등
+        }
+    }
+}
@@ -6,99 +6,174 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service("naverBlogCrawler")
 public class NaverBlogCrawler implements CrawlerService {
 
     private static final String NAVER_BLOG_SEARCH_URL = "https://search.naver.com/search.naver?where=blog&query=";
+    private static final String SNAPSHOT_PAGE_TYPE = "naver.blog.search";
+    private static final String USER_AGENT = "Mozilla/5.0 (iPhone; CPU iPhone OS 16_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/16.0 Mobile/15E148 Safari/604.1";
+
+    private final String searchUrl;
+    private final CrawlFetchExecutor fetchExecutor;
+    private final int fanOutConcurrency;
+    private final PageSnapshotStore snapshotStore;
+    private final HostRateLimiter hostRateLimiter;
+
+    @Autowired
+    public NaverBlogCrawler(@Value("${crawl.naver.blog-search-url:" + NAVER_BLOG_SEARCH_URL + "}") String searchUrl,
+            CrawlFetchExecutor fetchExecutor,
+            @Value("${crawl.naver.fan-out-concurrency:8}") int fanOutConcurrency,
+            PageSnapshotStore snapshotStore, HostRateLimiter hostRateLimiter) {
+        this.searchUrl = searchUrl;
+        this.fetchExecutor = fetchExecutor;
+        this.fanOutConcurrency = fanOutConcurrency;
+        this.snapshotStore = snapshotStore;
+        this.hostRateLimiter = hostRateLimiter;
+    }
+
+    // Standalone use (manual tests)
+    public NaverBlogCrawler() {
+        this(NAVER_BLOG_SEARCH_URL, new CrawlFetchExecutor(8), 8, PageSnapshotStore.disabled(),
+                new HostRateLimiter(1.0, 3));
+    }
 
     @Override
     public List<CrawlDataDto> crawl(String keyword, int limit) {
+        try {
+            return fetch(keyword, limit);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 여러 키워드를 동시에 검색 (동시 요청 수는 crawl.naver.fan-out-concurrency 이하)
+     * 실제 요청 속도는 HostRateLimiter 의 호스트별 제한을 따름
+     * 결과는 검색이 끝나는 순서대로 합쳐짐
+     */
+    @Override
+    public List<CrawlDataDto> crawlAll(Collection<String> keywords, int limit) {
+        return crawlAll(keywords, limit, fanOutConcurrency);
+    }
+
+    public List<CrawlDataDto> crawlAll(Collection<String> keywords, int limit, int concurrency) {
         List<CrawlDataDto> results = new ArrayList<>();
         try {
-            String query = URLEncoder.encode(keyword + " 카페", StandardCharsets.UTF_8);
-            String url = NAVER_BLOG_SEARCH_URL + query;
-
-            Document doc = Jsoup.connect(url)
-                    .userAgent(
-                            "Mozilla/5.0 (iPhone; CPU iPhone OS 16_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/16.0 Mobile/15E148 Safari/604.1")
-                    .get();
-
-            // Try multiple container selectors
-            Elements posts = doc.select("li.bx, .view_wrap, .detail_box");
-
-            for (Element post : posts) {
-                if (results.size() >= limit)
-                    break;
-
-                try {
-                    // Try multiple title selectors
-                    Element titleEl = post.select(".title_link, .total_tit, .tit, .api_txt_lines").first();
-                    if (titleEl == null)
-                        continue;
-
-                    String title = titleEl.text();
-                    String link = titleEl.attr("href");
-
-                    // If href is empty on the text element, try finding parent 'a' or 'a' inside
-                    if (link.isEmpty()) {
-                        if (titleEl.tagName().equals("a")) {
-                            link = titleEl.attr("href");
-                        } else {
-                            Element parentLink = titleEl.parent();
-                            if (parentLink != null && parentLink.tagName().equals("a")) {
-                                link = parentLink.attr("href");
-                            }
-                        }
-                    }
+            fetchExecutor.fetchAll(keywords, concurrency, keyword -> fetch(keyword, limit), results::addAll);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
 
-                    // Fallback: search for any 'a' tag in the post
-                    if (link.isEmpty()) {
-                        Element anyLink = post.select("a").first();
-                        if (anyLink != null)
-                            link = anyLink.attr("href");
-                    }
+    private List<CrawlDataDto> fetch(String keyword, int limit) throws IOException, InterruptedException {
+        String query = URLEncoder.encode(keyword + " 카페", StandardCharsets.UTF_8);
+        String url = searchUrl + query;
 
-                    // Skip invalid results (UI elements like 'Sort', 'Filter')
-                    if (link.isEmpty() || title.length() < 3 || link.equals("#"))
-                        continue;
+        hostRateLimiter.acquire(url);
 
-                    // Try multiple snippet selectors
-                    String snippet = post.select(".dsc_link, .dsc_txt, .api_txt_lines.dsc_txt, .total_dsc").text();
+        String html = Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .execute()
+                .body();
+        snapshotStore.store(url, SNAPSHOT_PAGE_TYPE, html);
+        return parse(Jsoup.parse(html, url), limit);
+    }
 
-                    // Image
-                    String imageUrl = "";
-                    Element imgEl = post.select(".thumb img, .thumb_area img").first();
-                    if (imgEl != null) {
-                        imageUrl = imgEl.attr("src");
+    /**
+     * 저장된 검색 결과 페이지를 다시 요청하지 않고 파싱 (셀렉터 수정 후 재처리용)
+     */
+    public List<CrawlDataDto> reparseFromSnapshots(int limit) throws IOException {
+        List<CrawlDataDto> results = new ArrayList<>();
+        for (PageSnapshotStore.PageSnapshot snapshot : snapshotStore.latestByUrl(SNAPSHOT_PAGE_TYPE)) {
+            results.addAll(parse(Jsoup.parse(snapshotStore.load(snapshot.getHash()), snapshot.getUrl()), limit));
+        }
+        return results;
+    }
+
+    static List<CrawlDataDto> parse(Document doc, int limit) {
+        List<CrawlDataDto> results = new ArrayList<>();
+
+        // Try multiple container selectors
+        Elements posts = doc.select("li.bx, .view_wrap, .detail_box");
+
+        for (Element post : posts) {
+            if (results.size() >= limit)
+                break;
+
+            try {
+                // Try multiple title selectors
+                Element titleEl = post.select(".title_link, .total_tit, .tit, .api_txt_lines").first();
+                if (titleEl == null)
+                    continue;
+
+                String title = titleEl.text();
+                String link = titleEl.attr("href");
+
+                // If href is empty on the text element, try finding parent 'a' or 'a' inside
+                if (link.isEmpty()) {
+                    if (titleEl.tagName().equals("a")) {
+                        link = titleEl.attr("href");
+                    } else {
+                        Element parentLink = titleEl.parent();
+                        if (parentLink != null && parentLink.tagName().equals("a")) {
+                            link = parentLink.attr("href");
+                        }
                     }
+                }
 
-                    String cafeName = title;
+                // Fallback: search for any 'a' tag in the post
+                if (link.isEmpty()) {
+                    Element anyLink = post.select("a").first();
+                    if (anyLink != null)
+                        link = anyLink.attr("href");
+                }
+
+                // Skip invalid results (UI elements like 'Sort', 'Filter')
+                if (link.isEmpty() || title.length() < 3 || link.equals("#"))
+                    continue;
 
-                    results.add(CrawlDataDto.builder()
-                            .source("NAVER_BLOG")
-                            .name(cafeName)
-                            .title(title)
-                            .content(snippet)
-                            .url(link)
-                            .imageUrl(imageUrl)
-                            .build());
+                // Try multiple snippet selectors
+                String snippet = post.select(".dsc_link, .dsc_txt, .api_txt_lines.dsc_txt, .total_dsc").text();
 
-                } catch (Exception e) {
-                    System.err.println("Error parsing blog post: " + e.getMessage());
+                // Image
+                String imageUrl = "";
+                Element imgEl = post.select(".thumb img, .thumb_area img").first();
+                if (imgEl != null) {
+                    imageUrl = imgEl.attr("src");
                 }
-            }
 
-        } catch (IOException e) {
-            e.printStackTrace();
+                String cafeName = title;
+
+                results.add(CrawlDataDto.builder()
+                        .source("NAVER_BLOG")
+                        .name(cafeName)
+                        .title(title)
+                        .content(snippet)
+                        .url(link)
+                        .imageUrl(imageUrl)
+                        .build());
+
+            } catch (Exception e) {
+                System.err.println("Error parsing blog post: " + e.getMessage());
+            }
         }
+
         return results;
     }
 }
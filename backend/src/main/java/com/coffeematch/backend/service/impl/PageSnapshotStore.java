@@ -0,0 +1,324 @@
+package com.coffeematch.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크롤링한 페이지 HTML 스냅샷 저장소 (로컬 디스크)
+ * - 본문은 SHA-256 이름의 gzip 파일로 한 번만 저장 (objects/ab/abcdef....html.gz)
+ * - URL / 페이지 유형 / 수집 시각 / 해시는 index.ndjson 에 한 줄씩 추가
+ * - 셀렉터를 고친 뒤 다시 요청하지 않고 저장된 페이지로 파서를 재실행할 때 사용
+ * - 기본은 꺼져 있음 (crawl.snapshot.enabled=true 와 저장 디렉터리를 지정해서 켬)
+ * - retention-days 보다 오래된 인덱스 줄은 주기적으로 지우고, 남은 줄이 가리키지 않는 본문 파일도 삭제
+ * - 인덱스는 메모리에 두고 파일에 새로 추가된 줄만 이어서 읽음
+ */
+@Service
+public class PageSnapshotStore {
+
+    private static final String INDEX_FILE = "index.ndjson";
+
+    private final Path baseDir;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+
+    // 본문 파일 쓰기(store)는 동시에, 정리(prune)는 단독으로
+    private final ReentrantReadWriteLock objectsLock = new ReentrantReadWriteLock();
+
+    // index.ndjson 에서 읽은 줄과 읽은 바이트 수 (this 로 보호)
+    private final List<PageSnapshot> indexCache = new ArrayList<>();
+    private long indexCacheBytes;
+
+    @Value("${crawl.snapshot.retention-days:14}")
+    private int retentionDays;
+
+    @Autowired
+    public PageSnapshotStore(@Value("${crawl.snapshot.dir:./crawl-snapshots}") String baseDir,
+            @Value("${crawl.snapshot.enabled:false}") boolean enabled, ObjectMapper objectMapper) {
+        this.baseDir = Paths.get(baseDir);
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 아무것도 저장하지 않는 저장소 (수동 테스트/벤치마크용)
+     */
+    public static PageSnapshotStore disabled() {
+        return new PageSnapshotStore(".", false, new ObjectMapper());
+    }
+
+    /**
+     * 페이지 저장 - 실패해도 크롤링은 계속되도록 예외를 던지지 않음
+     *
+     * @return 본문 해시, 저장하지 않았으면 null
+     */
+    public String store(String url, String pageType, String html) {
+        if (!enabled || html == null) {
+            return null;
+        }
+        objectsLock.readLock().lock();
+        try {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            Path object = objectPath(hash);
+            if (!Files.exists(object)) {
+                Files.createDirectories(object.getParent());
+                Path tmp = Files.createTempFile(object.getParent(), hash, ".tmp");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                    out.write(bytes);
+                }
+                Files.move(tmp, object, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            appendIndex(new PageSnapshot(url, pageType, hash, Instant.now().toString(), bytes.length));
+            return hash;
+        } catch (IOException e) {
+            System.err.println("Failed to store snapshot for " + url + ": " + e.getMessage());
+            return null;
+        } finally {
+            objectsLock.readLock().unlock();
+        }
+    }
+
+    private synchronized void appendIndex(PageSnapshot snapshot) throws IOException {
+        Files.createDirectories(baseDir);
+        try (BufferedWriter writer = Files.newBufferedWriter(baseDir.resolve(INDEX_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(objectMapper.writeValueAsString(snapshot));
+            writer.newLine();
+        }
+    }
+
+    /**
+     * 페이지 유형별로 URL 마다 가장 최근 스냅샷 (pageType 이 null 이면 전체)
+     */
+    public synchronized List<PageSnapshot> latestByUrl(String pageType) throws IOException {
+        Map<String, PageSnapshot> latest = new LinkedHashMap<>();
+        for (PageSnapshot snapshot : readIndex()) {
+            if (pageType == null || pageType.equals(snapshot.getPageType())) {
+                latest.remove(snapshot.getUrl());
+                latest.put(snapshot.getUrl(), snapshot);
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    /**
+     * 보관 기간이 지난 스냅샷 정리
+     */
+    @Scheduled(fixedDelayString = "${crawl.snapshot.prune-interval-ms:3600000}")
+    public void pruneExpired() {
+        if (!enabled || retentionDays <= 0) {
+            return;
+        }
+        try {
+            int removed = prune(Instant.now().minus(Duration.ofDays(retentionDays)));
+            if (removed > 0) {
+                System.out.println("Pruned " + removed + " page snapshot(s) older than " + retentionDays + " days");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to prune page snapshots: " + e.getMessage());
+        }
+    }
+
+    /**
+     * cutoff 이전에 수집한 인덱스 줄을 지우고, 남은 줄이 가리키지 않는 본문 파일 삭제
+     *
+     * @return 지운 인덱스 줄 수
+     */
+    int prune(Instant cutoff) throws IOException {
+        objectsLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                List<PageSnapshot> all = new ArrayList<>(readIndex());
+                List<PageSnapshot> kept = new ArrayList<>();
+                for (PageSnapshot snapshot : all) {
+                    if (!Instant.parse(snapshot.getFetchedAt()).isBefore(cutoff)) {
+                        kept.add(snapshot);
+                    }
+                }
+                if (kept.size() == all.size()) {
+                    return 0;
+                }
+
+                // 남길 줄만 새 파일에 쓰고 교체
+                Path index = baseDir.resolve(INDEX_FILE);
+                Path tmp = Files.createTempFile(baseDir, INDEX_FILE, ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    for (PageSnapshot snapshot : kept) {
+                        writer.write(objectMapper.writeValueAsString(snapshot));
+                        writer.newLine();
+                    }
+                }
+                Files.move(tmp, index, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                indexCache.clear();
+                indexCache.addAll(kept);
+                indexCacheBytes = Files.size(index);
+
+                Set<String> referenced = new HashSet<>();
+                kept.forEach(snapshot -> referenced.add(snapshot.getHash() + ".html.gz"));
+                Path objects = baseDir.resolve("objects");
+                if (Files.exists(objects)) {
+                    try (Stream<Path> files = Files.walk(objects)) {
+                        for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                            if (!referenced.contains(file.getFileName().toString())) {
+                                Files.deleteIfExists(file);
+                            }
+                        }
+                    }
+                }
+                return all.size() - kept.size();
+            }
+        } finally {
+            objectsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 전체 - 마지막으로 읽은 뒤 추가된 줄만 파일에서 읽음 (this 락 안에서 호출)
+     */
+    private List<PageSnapshot> readIndex() throws IOException {
+        Path index = baseDir.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            indexCache.clear();
+            indexCacheBytes = 0;
+            return indexCache;
+        }
+        long size = Files.size(index);
+        if (size < indexCacheBytes) {
+            // 밖에서 파일을 바꾼 경우 - 처음부터 다시 읽음
+            indexCache.clear();
+            indexCacheBytes = 0;
+        }
+        if (size > indexCacheBytes) {
+            try (InputStream in = Files.newInputStream(index)) {
+                in.skipNBytes(indexCacheBytes);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        indexCache.add(objectMapper.readValue(line, PageSnapshot.class));
+                    }
+                }
+            }
+            indexCacheBytes = size;
+        }
+        return indexCache;
+    }
+
+    /**
+     * 저장된 본문 읽기
+     */
+    public String load(String hash) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(objectPath(hash)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private Path objectPath(String hash) {
+        return baseDir.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash + ".html.gz");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 인덱스 한 줄
+     */
+    public static class PageSnapshot {
+        private String url;
+        private String pageType;
+        private String hash;
+        private String fetchedAt; // ISO-8601 (UTC)
+        private int size; // 압축 전 바이트 수
+
+        public PageSnapshot() {
+        }
+
+        public PageSnapshot(String url, String pageType, String hash, String fetchedAt, int size) {
+            this.url = url;
+            this.pageType = pageType;
+            this.hash = hash;
+            this.fetchedAt = fetchedAt;
+            this.size = size;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getPageType() {
+            return pageType;
+        }
+
+        public void setPageType(String pageType) {
+            this.pageType = pageType;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        public String getFetchedAt() {
+            return fetchedAt;
+        }
+
+        public void setFetchedAt(String fetchedAt) {
+            this.fetchedAt = fetchedAt;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+    }
+}
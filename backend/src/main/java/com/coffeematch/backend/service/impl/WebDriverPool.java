@@ -0,0 +1,558 @@
+package com.coffeematch.backend.service.impl;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PreDestroy;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 헤드리스 Chrome 세션 풀
+ * - 크롤러는 매번 Chrome 을 띄우지 않고 acquire() 로 탭을 빌려 쓰고 close() 로 반납
+ * - 브라우저 최대 개수와 브라우저당 탭 수를 제한 (동시 대여 수 = 두 값의 곱)
+ * - 한 브라우저의 탭들은 같은 WebDriver 를 공유하므로 명령 하나하나를 브라우저 단위 락으로 직렬화
+ *   (대기/폴링 중에는 락을 잡고 있지 않아서 같은 브라우저의 다른 탭이 그 사이에 명령을 실행)
+ * - 페이지 이동도 명령을 보내기만 하고(pageLoadStrategy=none) 로딩 완료는 락 없이 탭별로 폴링
+ * - 대여 전 상태 확인, N 페이지 처리 후 또는 JS 힙이 임계값을 넘으면 교체, 오래 쉬는 브라우저는 종료
+ */
+@Service
+public class WebDriverPool {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    // 탭을 열다가 브라우저 상태 확인이 연속으로 실패하면 더 띄우지 않고 포기
+    private static final int MAX_OPEN_ATTEMPTS = 3;
+
+    private static final long NAVIGATION_POLL_MS = 100;
+
+    // 이동 전 문서에 남기는 표시 - 새 문서에는 없으므로 이전 페이지의 readyState 를 새 페이지로 착각하지 않음
+    private static final String MARK_NAVIGATING_SCRIPT = "window.__poolNavigating = true;";
+    private static final String NAVIGATION_STATE_SCRIPT = "return window.__poolNavigating ? 'previous' : document.readyState;";
+
+    private final int maxBrowsers;
+    private final int tabsPerBrowser;
+    private final Semaphore tabPermits;
+    private final List<Browser> browsers = new ArrayList<>();
+
+    @Value("${crawl.browser.max-pages-per-browser:200}")
+    private int maxPagesPerBrowser;
+
+    @Value("${crawl.browser.max-js-heap-mb:512}")
+    private long maxJsHeapMb;
+
+    @Value("${crawl.browser.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Value("${crawl.browser.acquire-timeout-ms:120000}")
+    private long acquireTimeoutMs;
+
+    @Value("${crawl.browser.page-load-timeout-ms:30000}")
+    private long pageLoadTimeoutMs;
+
+    private volatile boolean driverBinaryReady;
+    private int pendingBrowsers;
+    private volatile boolean closed;
+
+    public WebDriverPool(@Value("${crawl.browser.pool-size:2}") int maxBrowsers,
+            @Value("${crawl.browser.tabs-per-browser:2}") int tabsPerBrowser) {
+        this.maxBrowsers = maxBrowsers;
+        this.tabsPerBrowser = tabsPerBrowser;
+        this.tabPermits = new Semaphore(maxBrowsers * tabsPerBrowser, true);
+    }
+
+    /**
+     * 탭 하나 대여 (반드시 close() 로 반납)
+     *
+     * @throws TimeoutException 제한 시간 안에 빈 탭이 생기지 않은 경우
+     */
+    public Lease acquire() throws InterruptedException, TimeoutException {
+        if (closed) {
+            throw new IllegalStateException("WebDriver pool is closed");
+        }
+        if (!tabPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("No browser tab available within " + acquireTimeoutMs + "ms");
+        }
+        try {
+            return openTab();
+        } catch (RuntimeException | Error e) {
+            tabPermits.release();
+            throw e;
+        }
+    }
+
+    private Lease openTab() {
+        for (int attempt = 0; attempt < MAX_OPEN_ATTEMPTS; attempt++) {
+            Browser browser = reserveBrowser();
+            if (browser == null) {
+                browser = startBrowser();
+            }
+            String handle = browser.openWindow();
+            if (handle != null) {
+                return new Lease(browser, handle);
+            }
+            // 상태 확인 실패 - 폐기하고 다시 시도
+            discard(browser);
+        }
+        throw new IllegalStateException("Could not open a browser tab after " + MAX_OPEN_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * 탭 여유가 있는 브라우저 중 사용 중인 탭이 가장 적은 것을 예약, 없으면 null (새로 띄워야 함)
+     */
+    private Browser reserveBrowser() {
+        synchronized (browsers) {
+            Browser best = null;
+            for (Browser browser : browsers) {
+                if (!browser.retiring && browser.tabsInUse < tabsPerBrowser
+                        && (best == null || browser.tabsInUse < best.tabsInUse)) {
+                    best = browser;
+                }
+            }
+            if (best != null) {
+                best.tabsInUse++;
+                return best;
+            }
+            // 탭 여유가 없으면 새 브라우저 (교체 중인 브라우저가 남아 있으면 잠시 한도를 넘을 수 있음)
+            pendingBrowsers++;
+            return null;
+        }
+    }
+
+    private Browser startBrowser() {
+        Browser browser;
+        try {
+            browser = new Browser(createDriver());
+        } finally {
+            synchronized (browsers) {
+                pendingBrowsers--;
+            }
+        }
+        synchronized (browsers) {
+            browser.tabsInUse = 1;
+            browsers.add(browser);
+        }
+        return browser;
+    }
+
+    private WebDriver createDriver() {
+        if (!driverBinaryReady) {
+            synchronized (this) {
+                if (!driverBinaryReady) {
+                    WebDriverManager.chromedriver().setup();
+                    driverBinaryReady = true;
+                }
+            }
+        }
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--remote-allow-origins=*");
+        options.addArguments("user-agent=" + USER_AGENT);
+        // get() 이 로딩 완료까지 브라우저 락을 잡지 않도록 이동 명령만 보내고 바로 반환 (대기는 Lease.navigate)
+        options.setPageLoadStrategy(PageLoadStrategy.NONE);
+
+        WebDriver driver = new ChromeDriver(options);
+        // 암묵적 대기는 쓰지 않음 - 크롤러가 조건 기반 명시적 대기를 사용하고 선택 요소 조회는 즉시 실패
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        return driver;
+    }
+
+    private void release(Browser browser, String handle, boolean broken) {
+        boolean recycle = broken || browser.broken;
+        if (!recycle) {
+            recycle = browser.pages >= maxPagesPerBrowser || browser.closeWindow(handle, maxJsHeapMb);
+        }
+        boolean quit;
+        synchronized (browsers) {
+            browser.tabsInUse--;
+            browser.lastReleasedAt = System.currentTimeMillis();
+            if (recycle) {
+                browser.retiring = true;
+            }
+            quit = browser.retiring && browser.tabsInUse == 0;
+            if (quit) {
+                browsers.remove(browser);
+            }
+        }
+        if (quit) {
+            browser.quit();
+        }
+        tabPermits.release();
+    }
+
+    private void discard(Browser browser) {
+        synchronized (browsers) {
+            browser.retiring = true;
+            browser.broken = true;
+            browser.tabsInUse--;
+            if (browser.tabsInUse > 0) {
+                return;
+            }
+            browsers.remove(browser);
+        }
+        browser.quit();
+    }
+
+    /**
+     * 오래 쓰이지 않은 브라우저 종료
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBrowsers() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMs;
+        List<Browser> idle = new ArrayList<>();
+        synchronized (browsers) {
+            browsers.removeIf(browser -> {
+                if (browser.tabsInUse == 0 && browser.lastReleasedAt < threshold) {
+                    idle.add(browser);
+                    return true;
+                }
+                return false;
+            });
+        }
+        idle.forEach(Browser::quit);
+    }
+
+    public int getBrowserCount() {
+        synchronized (browsers) {
+            return browsers.size() + pendingBrowsers;
+        }
+    }
+
+    public int getAvailableTabs() {
+        return tabPermits.availablePermits();
+    }
+
+    public int getMaxBrowsers() {
+        return maxBrowsers;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        List<Browser> all;
+        synchronized (browsers) {
+            all = new ArrayList<>(browsers);
+            browsers.clear();
+        }
+        all.forEach(Browser::quit);
+    }
+
+    /**
+     * 빌린 탭 - 명령은 execute() 가 넘겨주는 탭 전용 WebDriver 로만 실행
+     */
+    public final class Lease implements AutoCloseable {
+        private final Browser browser;
+        private final String handle;
+        private final WebDriver tabDriver;
+        private volatile boolean broken;
+        private boolean released;
+
+        private Lease(Browser browser, String handle) {
+            this.browser = browser;
+            this.handle = handle;
+            this.tabDriver = (WebDriver) wrap(browser.driver);
+        }
+
+        /**
+         * 탭 전용 WebDriver 로 작업 실행
+         * - 넘겨받은 driver 와 그 driver 에서 얻은 WebElement 는 명령마다 브라우저 락을 잡고 이 탭으로 전환한 뒤 실행
+         * - 세션이 끊긴 경우 브라우저를 폐기 대상으로 표시하고 예외를 그대로 던짐
+         */
+        public <T> T execute(DriverCallback<T> callback) throws Exception {
+            try {
+                return callback.doInDriver(tabDriver);
+            } catch (NoSuchSessionException | UnreachableBrowserException e) {
+                broken = true;
+                throw e;
+            }
+        }
+
+        /**
+         * 페이지 이동 (브라우저 교체 기준이 되는 페이지 수에 포함)
+         * - 락은 이동 명령을 보낼 때만 잡고, 새 문서의 DOM 준비(readyState interactive 이상)는 락 없이 폴링
+         *   (그 사이 같은 브라우저의 다른 탭이 명령을 실행)
+         *
+         * @throws org.openqa.selenium.TimeoutException page-load-timeout-ms 안에 새 문서가 준비되지 않은 경우
+         */
+        public void navigate(String url) throws Exception {
+            inTab(() -> {
+                ((JavascriptExecutor) browser.driver).executeScript(MARK_NAVIGATING_SCRIPT);
+                browser.driver.get(url);
+                browser.pages++;
+                return null;
+            });
+            long deadline = System.currentTimeMillis() + pageLoadTimeoutMs;
+            while (true) {
+                Object state = inTab(() -> ((JavascriptExecutor) browser.driver).executeScript(NAVIGATION_STATE_SCRIPT));
+                if ("interactive".equals(state) || "complete".equals(state)) {
+                    return;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new org.openqa.selenium.TimeoutException("Page did not load within " + pageLoadTimeoutMs
+                            + "ms: " + url);
+                }
+                Thread.sleep(NAVIGATION_POLL_MS);
+            }
+        }
+
+        public void invalidate() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(browser, handle, broken);
+        }
+
+        /**
+         * 브라우저 락 안에서 이 탭으로 전환한 뒤 명령 하나 실행
+         */
+        private <T> T inTab(TabCommand<T> command) throws Exception {
+            browser.lock.lock();
+            try {
+                if (!handle.equals(browser.currentHandle)) {
+                    browser.driver.switchTo().window(handle);
+                    browser.currentHandle = handle;
+                }
+                return command.run();
+            } catch (NoSuchSessionException | UnreachableBrowserException e) {
+                broken = true;
+                throw e;
+            } finally {
+                browser.lock.unlock();
+            }
+        }
+
+        /**
+         * Selenium 객체(WebDriver, WebElement, switchTo()/manage() 결과)를 명령마다 inTab() 으로 감싼 프록시로 변환
+         */
+        private Object wrap(Object target) {
+            Set<Class<?>> interfaces = new LinkedHashSet<>();
+            for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+                collectPublicInterfaces(type, interfaces);
+            }
+            if (target instanceof WebElement) {
+                interfaces.add(WrapsElement.class);
+            }
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+                    new TabHandler(target));
+        }
+
+        private Object wrapResult(Method method, Object result) {
+            if (result == null || Proxy.isProxyClass(result.getClass())) {
+                return result;
+            }
+            if (result instanceof WebElement) {
+                return wrap(result);
+            }
+            if (result instanceof List<?>) {
+                List<Object> wrapped = new ArrayList<>(((List<?>) result).size());
+                for (Object item : (List<?>) result) {
+                    wrapped.add(item instanceof WebElement ? wrap(item) : item);
+                }
+                return wrapped;
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface() && returnType.getName().startsWith("org.openqa.selenium.")) {
+                return wrap(result);
+            }
+            return result;
+        }
+
+        /**
+         * 이 탭의 프록시는 실제 객체로 되돌려서 드라이버에 전달 (executeScript 인자 등)
+         */
+        private Object unwrap(Object arg) {
+            if (arg != null && Proxy.isProxyClass(arg.getClass())
+                    && Proxy.getInvocationHandler(arg) instanceof TabHandler handler) {
+                return handler.target;
+            }
+            if (arg instanceof Object[] array) {
+                Object[] copy = (Object[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+                for (int i = 0; i < array.length; i++) {
+                    copy[i] = unwrap(array[i]);
+                }
+                return copy;
+            }
+            if (arg instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                for (Object item : list) {
+                    copy.add(unwrap(item));
+                }
+                return copy;
+            }
+            return arg;
+        }
+
+        private final class TabHandler implements InvocationHandler {
+            private final Object target;
+
+            TabHandler(Object target) {
+                this.target = target;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getDeclaringClass() == Object.class) {
+                    if (method.getName().equals("equals")) {
+                        return target.equals(unwrap(args[0]));
+                    }
+                    return method.invoke(target, args);
+                }
+                if (method.getDeclaringClass() == WrapsElement.class) {
+                    return target;
+                }
+                Object[] actualArgs = args != null ? (Object[]) unwrap(args) : null;
+                Object result = inTab(() -> {
+                    try {
+                        return method.invoke(target, actualArgs);
+                    } catch (InvocationTargetException e) {
+                        throw rethrow(e.getCause());
+                    } finally {
+                        // switchTo() 으로 다른 창/프레임으로 옮겼을 수 있으므로 다음 명령에서 다시 전환
+                        if (method.getDeclaringClass() == WebDriver.TargetLocator.class) {
+                            browser.currentHandle = null;
+                        }
+                    }
+                });
+                return wrapResult(method, result);
+            }
+        }
+    }
+
+    private static void collectPublicInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> iface : type.getInterfaces()) {
+            if (Modifier.isPublic(iface.getModifiers())) {
+                interfaces.add(iface);
+            }
+            collectPublicInterfaces(iface, interfaces);
+        }
+    }
+
+    private static Exception rethrow(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (Exception) cause;
+    }
+
+    @FunctionalInterface
+    private interface TabCommand<T> {
+        T run() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface DriverCallback<T> {
+        T doInDriver(WebDriver driver) throws Exception;
+    }
+
+    private static final class Browser {
+        private final WebDriver driver;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<String> idleHandles = new ArrayDeque<>();
+        private String currentHandle;
+        private volatile int pages; // lock 안에서만 증가
+        private volatile boolean broken;
+
+        // browsers 리스트 락으로 보호
+        private int tabsInUse;
+        private boolean retiring;
+        private long lastReleasedAt = System.currentTimeMillis();
+
+        Browser(WebDriver driver) {
+            this.driver = driver;
+            this.currentHandle = driver.getWindowHandle();
+            this.idleHandles.add(currentHandle);
+        }
+
+        /**
+         * 쉬고 있는 탭을 꺼내거나 새 탭을 연다, 세션이 죽어 있으면 null
+         */
+        String openWindow() {
+            lock.lock();
+            try {
+                String handle = idleHandles.poll();
+                if (handle == null) {
+                    driver.switchTo().newWindow(WindowType.TAB);
+                    handle = driver.getWindowHandle();
+                } else {
+                    // 상태 확인 겸 탭 전환
+                    driver.switchTo().window(handle);
+                }
+                currentHandle = handle;
+                return handle;
+            } catch (RuntimeException e) {
+                System.err.println("Browser health check failed: " + e.getMessage());
+                broken = true;
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 탭을 빈 페이지로 돌려 쉬게 함
+         *
+         * @return JS 힙이 임계값을 넘어 브라우저를 교체해야 하면 true
+         */
+        boolean closeWindow(String handle, long maxJsHeapMb) {
+            lock.lock();
+            try {
+                driver.switchTo().window(handle);
+                currentHandle = handle;
+                Object used = ((JavascriptExecutor) driver).executeScript(
+                        "return performance.memory ? performance.memory.usedJSHeapSize : 0;");
+                driver.get("about:blank");
+                idleHandles.push(handle);
+                return used instanceof Number && ((Number) used).longValue() > maxJsHeapMb * 1024 * 1024;
+            } catch (RuntimeException e) {
+                broken = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void quit() {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                System.err.println("Failed to quit browser: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.coffeematch.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+
+        assertFalse(filter.mightContain("jti:anything"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void insertedKeysAreAlwaysFound() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("jti:" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("jti:" + i), "false negative for jti:" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("jti:" + i);
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("sub:user" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        List<Thread> threads = new ArrayList<>();
+        int threadCount = 8;
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t;
+            threads.add(new Thread(() -> {
+                for (int i = offset; i < INSERTIONS; i += threadCount) {
+                    filter.put("jti:" + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("jti:" + i), "lost put for jti:" + i);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.CrawlBatchResultDto;
+import com.coffeematch.backend.dto.CrawlCafeRequestDto;
+import com.coffeematch.backend.dto.CrawlIngestItemResultDto;
+import com.coffeematch.backend.dto.CrawlIngestItemResultDto.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class CrawlIngestServiceTest {
+
+    private final CrawlIngestService service = spy(new CrawlIngestService(null, null, null, null, null, null,
+            new ObjectMapper()));
+
+    // ingestChunk 로 넘어온 항목 (파싱 실패는 null)
+    private final List<CrawlCafeRequestDto> received = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        doAnswer(invocation -> {
+            List<CrawlCafeRequestDto> chunk = invocation.getArgument(0);
+            int offset = invocation.getArgument(1);
+            List<CrawlIngestItemResultDto> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                CrawlCafeRequestDto request = chunk.get(i);
+                received.add(request);
+                results.add(new CrawlIngestItemResultDto(offset + i, request != null ? request.getPlatformId() : null,
+                        null, request != null ? Status.INSERTED : Status.FAILED, null, null));
+            }
+            return results;
+        }).when(service).ingestChunk(any(), anyInt());
+    }
+
+    @Test
+    void readsNdjson() throws Exception {
+        CrawlBatchResultDto result = service.ingestStream(body("{\"platformId\":\"1\"}\n{\"platformId\":\"2\"}\n\n"
+                + "{\"platformId\":\"3\"}\n"));
+
+        assertEquals(3, result.getInserted());
+        assertEquals(List.of("1", "2", "3"), platformIds());
+    }
+
+    @Test
+    void readsTopLevelArrayAndMultiLineObjects() throws Exception {
+        CrawlBatchResultDto result = service.ingestStream(body("[\n  {\n    \"platformId\": \"1\"\n  },\n"
+                + "  {\"platformId\": \"2\"},\n  {\"platformId\": \"3\"}\n]"));
+
+        assertEquals(3, result.getInserted());
+        assertEquals(List.of("1", "2", "3"), platformIds());
+    }
+
+    @Test
+    void readsGzipBody() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write("[{\"platformId\":\"1\"},{\"platformId\":\"2\"}]".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(2, service.ingestStream(new ByteArrayInputStream(bytes.toByteArray())).getInserted());
+    }
+
+    @Test
+    void invalidItemFailsAloneAndReadingContinues() throws Exception {
+        CrawlBatchResultDto result = service.ingestStream(body("{\"platformId\":\"1\"}\n"
+                + "{\"platformId\":\"2\",\"latitude\":\"north\"}\n{\"platformId\":\"3\"}\n"));
+
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getItems().get(0).getIndex());
+        assertTrue(result.getItems().get(0).getMessage().startsWith("Invalid item"));
+        assertEquals("3", received.get(2).getPlatformId());
+    }
+
+    @Test
+    void syntaxErrorStopsReading() throws Exception {
+        CrawlBatchResultDto result = service.ingestStream(body("{\"platformId\":\"1\"}\n{\"platformId\":\"2\",,}\n"
+                + "{\"platformId\":\"3\"}\n"));
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertNull(received.get(1));
+        assertTrue(result.getItems().get(0).getMessage().startsWith("Malformed JSON"));
+    }
+
+    private List<String> platformIds() {
+        return received.stream().map(CrawlCafeRequestDto::getPlatformId).toList();
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.CrawlRun;
+import com.coffeematch.backend.entity.CrawlRunRegion;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.repository.CafeBulkRepository;
+import com.coffeematch.backend.repository.CafeRepository;
+import com.coffeematch.backend.repository.CrawlRunRegionRepository;
+import com.coffeematch.backend.repository.CrawlRunRepository;
+import com.coffeematch.backend.service.impl.KakaoGeoGridSearch;
+import com.coffeematch.backend.service.impl.KakaoMapCrawler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiscoveryServiceTest {
+
+    private static final Long RUN_ID = 7L;
+
+    private final CafeRepository cafeRepository = mock(CafeRepository.class);
+    private final CafeBulkRepository cafeBulkRepository = mock(CafeBulkRepository.class);
+    private final CrawlRunRepository crawlRunRepository = mock(CrawlRunRepository.class);
+    private final CrawlRunRegionRepository crawlRunRegionRepository = mock(CrawlRunRegionRepository.class);
+    private final KakaoMapCrawler kakaoMapCrawler = mock(KakaoMapCrawler.class);
+
+    private final DiscoveryService service = new DiscoveryService(cafeRepository, cafeBulkRepository,
+            mock(PlatformIdIndex.class), crawlRunRepository, crawlRunRegionRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(KakaoGeoGridSearch.class),
+            kakaoMapCrawler);
+
+    private final CrawlRun run = new CrawlRun(Platform.KAKAO_MAP, "카페", 2);
+
+    @BeforeEach
+    void setUp() {
+        run.setId(RUN_ID);
+        when(crawlRunRepository.findById(RUN_ID)).thenReturn(Optional.of(run));
+        doAnswer(invocation -> {
+            List<Cafe> cafes = invocation.getArgument(0);
+            for (int i = 0; i < cafes.size(); i++) {
+                cafes.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(cafeBulkRepository).insertCafes(any());
+    }
+
+    @Test
+    void resumeSearchesOnlyRegionsNotDone() throws Exception {
+        // 첫 실행에서 성수동은 끝났고 연남동은 검색 실패로 남음
+        CrawlRunRegion failed = new CrawlRunRegion(RUN_ID, 1, "연남동");
+        failed.setStatus(CrawlRunRegion.Status.FAILED);
+        failed.setAttempts(1);
+        when(crawlRunRegionRepository.findByRunIdAndStatusNotOrderBySeq(RUN_ID, CrawlRunRegion.Status.DONE))
+                .thenReturn(List.of(failed));
+        when(kakaoMapCrawler.searchRegion("연남동", "카페")).thenReturn(List.of(
+                new DiscoveryService.CrawledCafeData("111", "연남 커피", "서울 마포구", "", null, null)));
+        when(crawlRunRegionRepository.countByRunIdAndStatus(RUN_ID, CrawlRunRegion.Status.DONE)).thenReturn(2L);
+
+        service.runRegions(RUN_ID, Platform.KAKAO_MAP, "카페");
+
+        verify(kakaoMapCrawler, never()).searchRegion(eq("성수동"), anyString());
+        assertEquals(CrawlRunRegion.Status.DONE, failed.getStatus());
+        assertEquals(1, failed.getNewCafes());
+        assertEquals(2, failed.getAttempts());
+        assertNull(failed.getLastError());
+        verify(crawlRunRepository).addCompletedRegion(eq(RUN_ID), eq(1), any());
+        assertEquals(CrawlRun.Status.COMPLETED, run.getStatus());
+    }
+
+    @Test
+    void failedSearchLeavesRegionForNextResume() throws Exception {
+        CrawlRunRegion pending = new CrawlRunRegion(RUN_ID, 0, "성수동");
+        when(crawlRunRegionRepository.findByRunIdAndStatusNotOrderBySeq(RUN_ID, CrawlRunRegion.Status.DONE))
+                .thenReturn(List.of(pending));
+        when(kakaoMapCrawler.searchRegion("성수동", "카페"))
+                .thenThrow(new org.openqa.selenium.TimeoutException("Search results did not load"));
+
+        service.runRegions(RUN_ID, Platform.KAKAO_MAP, "카페");
+
+        assertEquals(CrawlRunRegion.Status.FAILED, pending.getStatus());
+        verify(crawlRunRepository, never()).addCompletedRegion(any(), any(Integer.class), any());
+        verify(cafeBulkRepository, never()).insertCafes(any());
+        assertEquals(CrawlRun.Status.FAILED, run.getStatus());
+    }
+}
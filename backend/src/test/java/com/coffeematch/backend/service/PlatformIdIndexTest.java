@@ -0,0 +1,107 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlatformIdIndexTest {
+
+    // load() 를 호출하지 않으므로 DB 에 연결하지 않음
+    private final PlatformIdIndex index = new PlatformIdIndex(new DriverManagerDataSource());
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void putFindAndOverwrite() {
+        index.put(Platform.KAKAO_MAP, "123", 1L);
+        index.put(Platform.KAKAO_MAP, "123", 2L);
+
+        assertEquals(2L, index.find(Platform.KAKAO_MAP, "123"));
+        assertEquals(1, index.size(Platform.KAKAO_MAP));
+        assertNull(index.find(Platform.NAVER_MAP, "123"));
+        assertNull(index.find(Platform.KAKAO_MAP, null));
+    }
+
+    @Test
+    void unknownKeyIsNotReportedEvenWithSameHashCode() {
+        // "Aa" 와 "BB" 는 hashCode 가 같아서 같은 슬롯에서 탐사가 시작됨
+        index.put(Platform.KAKAO_MAP, "Aa", 1L);
+
+        assertNull(index.find(Platform.KAKAO_MAP, "BB"));
+        index.put(Platform.KAKAO_MAP, "BB", 2L);
+        assertEquals(1L, index.find(Platform.KAKAO_MAP, "Aa"));
+        assertEquals(2L, index.find(Platform.KAKAO_MAP, "BB"));
+    }
+
+    @Test
+    void resizeKeepsAllEntries() {
+        int count = 10_000; // 초기 용량 1024 를 여러 번 넘김
+        for (int i = 0; i < count; i++) {
+            index.put(Platform.KAKAO_MAP, "place-" + i, (long) i);
+        }
+
+        assertEquals(count, index.size(Platform.KAKAO_MAP));
+        for (int i = 0; i < count; i++) {
+            assertEquals((long) i, index.find(Platform.KAKAO_MAP, "place-" + i));
+        }
+    }
+
+    @Test
+    void removeKeepsProbeChainsOfRemainingKeys() {
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            index.put(Platform.KAKAO_MAP, "place-" + i, (long) i);
+        }
+        for (int i = 0; i < count; i += 2) {
+            index.remove(Platform.KAKAO_MAP, "place-" + i);
+        }
+        index.remove(Platform.KAKAO_MAP, "missing");
+
+        assertEquals(count / 2, index.size(Platform.KAKAO_MAP));
+        for (int i = 0; i < count; i++) {
+            Long expected = i % 2 == 0 ? null : (long) i;
+            assertEquals(expected, index.find(Platform.KAKAO_MAP, "place-" + i));
+        }
+    }
+
+    @Test
+    void putAfterCommitWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.putAllAfterCommit(Platform.KAKAO_MAP, Map.of("123", 1L, "456", 2L));
+
+        assertNull(index.find(Platform.KAKAO_MAP, "123"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, index.find(Platform.KAKAO_MAP, "123"));
+        assertEquals(2L, index.find(Platform.KAKAO_MAP, "456"));
+    }
+
+    @Test
+    void putAfterCommitIsDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.putAfterCommit(Platform.KAKAO_MAP, "123", 1L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertNull(index.find(Platform.KAKAO_MAP, "123"));
+    }
+
+    @Test
+    void putAfterCommitOutsideTransactionAppliesImmediately() {
+        index.putAfterCommit(Platform.KAKAO_MAP, "123", 1L);
+
+        assertEquals(1L, index.find(Platform.KAKAO_MAP, "123"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.coffeematch.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecrawlSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    private final RecrawlScheduler scheduler = new RecrawlScheduler(null, null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "dailyBudget", 2000);
+        ReflectionTestUtils.setField(scheduler, "tickMs", 300_000L); // 5분
+        ReflectionTestUtils.setField(scheduler, "budgetDate", TODAY);
+        ReflectionTestUtils.setField(scheduler, "usedToday", 0);
+    }
+
+    @Test
+    void budgetIsSpreadOverRemainingTicks() {
+        // 정오 기준 남은 tick 144개 -> ceil(2000 / 144)
+        assertEquals(14, scheduler.nextBatchSize(TODAY.atTime(12, 0)));
+    }
+
+    @Test
+    void unusedBudgetMovesToLaterTicks() {
+        ReflectionTestUtils.setField(scheduler, "usedToday", 1990);
+
+        // 마지막 tick 에서 남은 예산을 모두 사용
+        assertEquals(10, scheduler.nextBatchSize(TODAY.atTime(23, 56)));
+    }
+
+    @Test
+    void exhaustedBudgetReturnsZero() {
+        ReflectionTestUtils.setField(scheduler, "usedToday", 2000);
+
+        assertEquals(0, scheduler.nextBatchSize(TODAY.atTime(12, 0)));
+    }
+
+    @Test
+    void budgetResetsAtMidnight() {
+        ReflectionTestUtils.setField(scheduler, "usedToday", 2000);
+
+        LocalDateTime nextDay = TODAY.plusDays(1).atStartOfDay();
+        // 하루 288 tick -> ceil(2000 / 288)
+        assertEquals(7, scheduler.nextBatchSize(nextDay));
+        assertEquals(0, ReflectionTestUtils.getField(scheduler, "usedToday"));
+    }
+}
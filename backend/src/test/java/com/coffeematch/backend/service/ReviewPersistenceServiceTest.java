@@ -0,0 +1,108 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.dto.ReviewDetailDto;
+import com.coffeematch.backend.entity.Cafe;
+import com.coffeematch.backend.entity.Platform;
+import com.coffeematch.backend.entity.Review;
+import com.coffeematch.backend.entity.ReviewWatermark;
+import com.coffeematch.backend.repository.CafeBulkRepository;
+import com.coffeematch.backend.repository.ReviewRepository;
+import com.coffeematch.backend.repository.ReviewWatermarkRepository;
+import com.coffeematch.backend.service.impl.KakaoMapCrawler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewPersistenceServiceTest {
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final CafeBulkRepository cafeBulkRepository = mock(CafeBulkRepository.class);
+
+    private final ReviewPersistenceService service = new ReviewPersistenceService(reviewRepository,
+            cafeBulkRepository, mock(RevisitStatsService.class), mock(ReviewWatermarkRepository.class));
+
+    // 저장된 (source_platform, platform_review_id) - 리뷰 유니크 키와 같은 범위
+    private final Set<String> storedIds = new HashSet<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(service, "reviewChunkSize", 500);
+        when(reviewRepository.findExistingPlatformReviewIds(eq(Platform.KAKAO_MAP), anyCollection()))
+                .thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(1)).stream()
+                        .filter(storedIds::contains).toList());
+        when(cafeBulkRepository.insertReviews(any())).thenAnswer(invocation -> {
+            List<Review> reviews = invocation.getArgument(0);
+            reviews.forEach(review -> storedIds.add(review.getPlatformReviewId()));
+            return reviews.size();
+        });
+    }
+
+    @Test
+    void identicalReviewsAtTwoCafesAreBothKept() {
+        ReviewDetailDto review = new ReviewDetailDto("커피러버", "5", "맛있어요", "2024.03.01.", "");
+
+        assertEquals(1, service.saveNewReviews(cafe(1L, "111"), List.of(crawled("111", review)), null));
+        assertEquals(1, service.saveNewReviews(cafe(2L, "222"), List.of(crawled("222", review)), null));
+    }
+
+    @Test
+    void sameReviewAtSameCafeIsSavedOnce() {
+        ReviewDetailDto review = new ReviewDetailDto("커피러버", "5", "맛있어요", "2024.03.01.", "");
+
+        assertEquals(1, service.saveNewReviews(cafe(1L, "111"), List.of(crawled("111", review)), null));
+        assertEquals(0, service.saveNewReviews(cafe(1L, "111"), List.of(crawled("111", review)), null));
+    }
+
+    @Test
+    void sameDayAbsoluteDateReviewPassesPreciseWatermark() {
+        // 워터마크는 "3시간전" 리뷰로 시각까지 정확하고, 같은 날 리뷰는 날짜만 표기돼 00:00 으로 파싱됨
+        ReviewWatermark watermark = new ReviewWatermark(1L, Platform.KAKAO_MAP,
+                LocalDateTime.of(2024, 3, 1, 14, 30), "111:newest", LocalDateTime.of(2024, 3, 1, 17, 30));
+        ReviewDetailDto review = new ReviewDetailDto("커피러버", "5", "맛있어요", "2024.03.01.", "");
+
+        assertEquals(1, service.saveNewReviews(cafe(1L, "111"),
+                List.of(crawled("111", review, LocalDateTime.of(2024, 3, 1, 0, 0))), watermark));
+    }
+
+    @Test
+    void reviewsOlderThanWatermarkDayAreSkipped() {
+        ReviewWatermark watermark = new ReviewWatermark(1L, Platform.KAKAO_MAP,
+                LocalDateTime.of(2024, 3, 1, 14, 30), "111:newest", LocalDateTime.of(2024, 3, 1, 17, 30));
+        ReviewDetailDto review = new ReviewDetailDto("커피러버", "5", "맛있어요", "2024.02.27.", "");
+
+        assertEquals(0, service.saveNewReviews(cafe(1L, "111"),
+                List.of(crawled("111", review, LocalDateTime.of(2024, 2, 27, 0, 0))), watermark));
+    }
+
+    private static Cafe cafe(Long id, String platformId) {
+        Cafe cafe = new Cafe();
+        cafe.setId(id);
+        cafe.setPlatformId(platformId);
+        cafe.setSourcePlatform(Platform.KAKAO_MAP);
+        return cafe;
+    }
+
+    private static IncrementalUpdateService.CrawledReviewData crawled(String placeId, ReviewDetailDto review) {
+        return crawled(placeId, review, LocalDateTime.of(2024, 3, 1, 0, 0));
+    }
+
+    private static IncrementalUpdateService.CrawledReviewData crawled(String placeId, ReviewDetailDto review,
+            LocalDateTime reviewDate) {
+        return new IncrementalUpdateService.CrawledReviewData(KakaoMapCrawler.reviewId(placeId, review),
+                review.getNickname(), 5, review.getContent(), reviewDate, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.coffeematch.backend.service;
+
+import com.coffeematch.backend.entity.CafeRevisitStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevisitStatsServiceTest {
+
+    private static final double DELTA = 1e-9;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 12, 0);
+
+    // update() 는 저장소를 쓰지 않음
+    private final RevisitStatsService service = new RevisitStatsService(null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "targetChangeProbability", 0.5);
+        ReflectionTestUtils.setField(service, "priorDays", 7.0);
+        ReflectionTestUtils.setField(service, "windowDays", 90.0);
+        ReflectionTestUtils.setField(service, "minIntervalHours", 6.0);
+        ReflectionTestUtils.setField(service, "maxIntervalDays", 30.0);
+    }
+
+    @Test
+    void firstVisitUsesPrior() {
+        CafeRevisitStats stats = new CafeRevisitStats(1L);
+        service.update(stats, 0, NOW);
+
+        double expectedHours = Math.log(2) * 7 * 24; // λ = 1/7, P(변경 1회 이상) = 0.5
+        assertEquals(1.0 / 7, stats.getChangeRatePerDay(), DELTA);
+        assertEquals(expectedHours, stats.getIntervalHours(), DELTA);
+        assertEquals(NOW.plusMinutes(Math.round(expectedHours * 60)), stats.getNextDueAt());
+        assertEquals(1, stats.getVisits());
+        assertEquals(0, stats.getObservedDays(), DELTA);
+    }
+
+    @Test
+    void observationsBeyondWindowAreScaledDown() {
+        CafeRevisitStats stats = observed(30, 90);
+        service.update(stats, 5, NOW);
+
+        // 35건 / 100일 -> 90일 창으로 축소하면 31.5건 / 90일
+        assertEquals(31.5, stats.getEvents(), DELTA);
+        assertEquals(90, stats.getObservedDays(), DELTA);
+        assertEquals(32.5 / 97, stats.getChangeRatePerDay(), DELTA);
+        assertEquals(NOW, stats.getLastChangedAt());
+    }
+
+    @Test
+    void intervalIsClampedToMinimum() {
+        CafeRevisitStats stats = observed(1000, 0);
+        service.update(stats, 0, NOW);
+
+        assertEquals(6.0, stats.getIntervalHours(), DELTA);
+        assertEquals(NOW.plusHours(6), stats.getNextDueAt());
+    }
+
+    @Test
+    void intervalIsClampedToMaximum() {
+        CafeRevisitStats stats = observed(0, 90);
+        service.update(stats, 0, NOW);
+
+        assertEquals(30 * 24.0, stats.getIntervalHours(), DELTA);
+        assertEquals(NOW.plusDays(30), stats.getNextDueAt());
+    }
+
+    // 직전 방문(10일 전)까지 observedDays 일 동안 events 건의 변경을 관측한 카페
+    private static CafeRevisitStats observed(double events, double observedDays) {
+        CafeRevisitStats stats = new CafeRevisitStats(1L);
+        stats.setEvents(events);
+        stats.setObservedDays(observedDays);
+        stats.setVisits(3);
+        stats.setLastVisitedAt(NOW.minusDays(10));
+        return stats;
+    }
+}
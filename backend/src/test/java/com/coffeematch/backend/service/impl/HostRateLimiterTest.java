@@ -0,0 +1,67 @@
+package com.coffeematch.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HostRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final String URL = "https://place.map.kakao.com/123";
+
+    @Test
+    void burstIsFreeThenRequestsAreSpacedByInterval() {
+        HostRateLimiter limiter = new HostRateLimiter(2.0, 3); // 0.5초마다 토큰 1개
+        long start = 1_000 * SECOND;
+
+        assertEquals(0, limiter.reserve(URL, start));
+        assertEquals(0, limiter.reserve(URL, start));
+        assertEquals(0, limiter.reserve(URL, start));
+        // 토큰이 떨어진 뒤의 예약은 앞선 대기자 뒤로 한 간격씩 밀림
+        assertEquals(SECOND / 2, limiter.reserve(URL, start));
+        assertEquals(SECOND, limiter.reserve(URL, start));
+    }
+
+    @Test
+    void tokensRefillWithElapsedTime() {
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        long start = 1_000 * SECOND;
+
+        assertEquals(0, limiter.reserve(URL, start));
+        assertEquals(SECOND / 2, limiter.reserve(URL, start + SECOND / 2));
+        // 1.5초 동안 채워진 토큰이 앞선 대기자 몫(0.5개)을 갚고도 1개 남아 바로 통과
+        assertEquals(0, limiter.reserve(URL, start + 2 * SECOND));
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 2);
+        long start = 1_000 * SECOND;
+
+        limiter.reserve(URL, start);
+        // 한참 쉬어도 burst(2)개까지만 모임
+        long later = start + 60 * SECOND;
+        assertEquals(0, limiter.reserve(URL, later));
+        assertEquals(0, limiter.reserve(URL, later));
+        assertEquals(SECOND, limiter.reserve(URL, later));
+    }
+
+    @Test
+    void hostsHaveSeparateBuckets() {
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        long start = 1_000 * SECOND;
+
+        assertEquals(0, limiter.reserve("https://place.map.kakao.com/1", start));
+        assertEquals(0, limiter.reserve("https://search.naver.com/search.naver?query=a", start));
+        assertEquals(SECOND, limiter.reserve("https://PLACE.map.kakao.com/2", start));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new HostRateLimiter(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new HostRateLimiter(1.0, 0.5));
+    }
+}
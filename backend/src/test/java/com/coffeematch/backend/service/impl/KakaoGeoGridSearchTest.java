@@ -0,0 +1,59 @@
+package com.coffeematch.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KakaoGeoGridSearchTest {
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/search", exchange -> {
+            int n = requests.incrementAndGet();
+            // 첫 응답만 좌표가 숫자가 아님
+            String x = n == 1 ? "not-a-number" : "127.001";
+            byte[] body = ("{\"meta\":{\"total_count\":1,\"is_end\":true},\"documents\":[{\"id\":\"" + n
+                    + "\",\"place_name\":\"카페 " + n + "\",\"x\":\"" + x + "\",\"y\":\"37.501\"}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void malformedCoordinatesFailOnlyThatCell() throws Exception {
+        KakaoGeoGridSearch search = new KakaoGeoGridSearch(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/search", "test-key",
+                new HostRateLimiter(1000, 10), new CrawlFetchExecutor(4), new ObjectMapper(), 2, 500, 50, 100);
+
+        // 약 1km x 1km - 500m 초기 셀 여러 개
+        KakaoGeoGridSearch.SweepResult sweep = search.sweep(
+                new KakaoGeoGridSearch.GeoCell(37.500, 127.000, 37.509, 127.0113));
+
+        assertEquals(requests.get(), sweep.getCellsSearched());
+        assertEquals(1, sweep.getFailedCells());
+        assertEquals(1, sweep.getFailedCellRects().size());
+        assertEquals(sweep.getCellsSearched() - 1, sweep.getPlaces().size());
+    }
+}
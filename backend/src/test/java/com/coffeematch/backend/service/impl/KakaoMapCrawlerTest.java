@@ -0,0 +1,32 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.dto.ReviewDetailDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KakaoMapCrawlerTest {
+
+    private final ReviewDetailDto review = new ReviewDetailDto("커피러버", "5", "맛있어요", "2달전", "");
+
+    @Test
+    void reviewIdIsScopedToPlace() {
+        assertNotEquals(KakaoMapCrawler.reviewId("111", review), KakaoMapCrawler.reviewId("222", review));
+        assertTrue(KakaoMapCrawler.reviewId("111", review).startsWith("111:"));
+    }
+
+    @Test
+    void reviewIdIgnoresRelativeDate() {
+        ReviewDetailDto later = new ReviewDetailDto("커피러버", "5", "맛있어요", "3달전", "");
+
+        assertEquals(KakaoMapCrawler.reviewId("111", review), KakaoMapCrawler.reviewId("111", later));
+    }
+
+    @Test
+    void placeIdFromUrlOrId() {
+        assertEquals("12345", KakaoMapCrawler.placeId("https://place.map.kakao.com/12345"));
+        assertEquals("12345", KakaoMapCrawler.placeId("12345"));
+    }
+}
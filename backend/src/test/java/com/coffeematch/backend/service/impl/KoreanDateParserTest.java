@@ -0,0 +1,58 @@
+package com.coffeematch.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KoreanDateParserTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 14, 30);
+
+    @Test
+    void relativeDays() {
+        assertEquals(NOW.minusDays(3), KoreanDateParser.parse("3일 전", NOW));
+        assertEquals(NOW.minusDays(3), KoreanDateParser.parse("3일전", NOW));
+    }
+
+    @Test
+    void relativeWeeksAndMonths() {
+        assertEquals(NOW.minusWeeks(1), KoreanDateParser.parse("1주 전", NOW));
+        assertEquals(NOW.minusMonths(2), KoreanDateParser.parse("2달 전", NOW));
+        assertEquals(NOW.minusHours(5), KoreanDateParser.parse("5시간 전", NOW));
+    }
+
+    @Test
+    void namedDays() {
+        assertEquals(LocalDateTime.of(2024, 3, 14, 0, 0), KoreanDateParser.parse("어제", NOW));
+        assertEquals(LocalDateTime.of(2024, 3, 13, 0, 0), KoreanDateParser.parse("그저께", NOW));
+        assertEquals(NOW, KoreanDateParser.parse("방금 전", NOW));
+    }
+
+    @Test
+    void absoluteDates() {
+        LocalDateTime expected = LocalDateTime.of(2024, 1, 5, 0, 0);
+        assertEquals(expected, KoreanDateParser.parse("2024.01.05.", NOW));
+        assertEquals(expected, KoreanDateParser.parse("24.1.5", NOW));
+        assertEquals(expected, KoreanDateParser.parse("2024-01-05", NOW));
+        assertEquals(expected, KoreanDateParser.parse("2024년 1월 5일", NOW));
+    }
+
+    @Test
+    void dateWithoutYearIsNeverInTheFuture() {
+        assertEquals(LocalDateTime.of(2024, 1, 5, 0, 0), KoreanDateParser.parse("01.05.", NOW));
+        assertEquals(LocalDateTime.of(2023, 12, 24, 0, 0), KoreanDateParser.parse("12월 24일", NOW));
+    }
+
+    @Test
+    void unparseableReturnsNull() {
+        assertNull(KoreanDateParser.parse(null, NOW));
+        assertNull(KoreanDateParser.parse("  ", NOW));
+        assertNull(KoreanDateParser.parse("작성일 미상", NOW));
+        assertNull(KoreanDateParser.parse("3년후 전", NOW));
+        assertNull(KoreanDateParser.parse("2024.02.30.", NOW));
+        assertNull(KoreanDateParser.parse("2024.13.01.", NOW));
+    }
+}
@@ -0,0 +1,86 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.dto.CrawlDataDto;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * NaverBlogCrawler 동시 검색 처리량 측정 (로컬 가짜 검색 서버 사용)
+ * 실행: main(requests, latencyMs) - 기본 200 요청, 응답 지연 20ms
+ */
+public class NaverBlogCrawlerBenchmark {
+
+    private static final int[] CONCURRENCY_LEVELS = { 1, 10, 100 };
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 20;
+
+        byte[] page = searchResultPage(10);
+        ExecutorService serverThreads = Executors.newCachedThreadPool();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/search", exchange -> {
+            try {
+                Thread.sleep(latencyMs); // 원격 서버 응답 시간 흉내
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, page.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(page);
+            }
+        });
+        server.setExecutor(serverThreads);
+        server.start();
+
+        String searchUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/search?query=";
+        CrawlFetchExecutor fetchExecutor = new CrawlFetchExecutor(100);
+        // 동시성만 측정하도록 요청 제한은 사실상 끔
+        HostRateLimiter unlimited = new HostRateLimiter(1_000_000, 1_000_000);
+        NaverBlogCrawler crawler = new NaverBlogCrawler(searchUrl, fetchExecutor, 1, PageSnapshotStore.disabled(),
+                unlimited);
+
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            keywords.add("keyword" + i);
+        }
+
+        try {
+            System.out.println("Executor: " + (fetchExecutor.isVirtualThreads() ? "virtual threads" : "fixed pool")
+                    + ", requests=" + requests + ", latency=" + latencyMs + "ms");
+            crawler.crawlAll(keywords.subList(0, Math.min(20, requests)), 10, 10); // warm-up
+
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                long started = System.nanoTime();
+                List<CrawlDataDto> results = crawler.crawlAll(keywords, 10, concurrency);
+                double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+                System.out.printf("concurrency=%3d  elapsed=%7.0fms  throughput=%8.1f req/s  items=%d%n",
+                        concurrency, seconds * 1000, requests / seconds, results.size());
+            }
+        } finally {
+            fetchExecutor.shutdown();
+            server.stop(0);
+            serverThreads.shutdownNow();
+        }
+    }
+
+    private static byte[] searchResultPage(int posts) {
+        StringBuilder html = new StringBuilder("<html><body><ul>");
+        for (int i = 0; i < posts; i++) {
+            html.append("<li class=\"bx\"><a class=\"title_link\" href=\"https://blog.example.com/post/")
+                    .append(i).append("\">Coffee shop review ").append(i).append("</a>")
+                    .append("<div class=\"dsc_txt\">Latte and pastries, quiet place to work.</div>")
+                    .append("<div class=\"thumb\"><img src=\"https://img.example.com/").append(i)
+                    .append(".jpg\"></div></li>");
+        }
+        return html.append("</ul></body></html>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package com.coffeematch.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void disabledByDefaultStoresNothing() {
+        assertNull(PageSnapshotStore.disabled().store("https://place.map.kakao.com/1", "kakao.detail", "<html/>"));
+    }
+
+    @Test
+    void latestByUrlSeesPagesStoredAfterFirstRead() throws Exception {
+        PageSnapshotStore store = new PageSnapshotStore(dir.toString(), true, new ObjectMapper());
+        store.store("https://place.map.kakao.com/1", "kakao.detail", "<html>v1</html>");
+        assertEquals(1, store.latestByUrl("kakao.detail").size());
+
+        store.store("https://place.map.kakao.com/1", "kakao.detail", "<html>v2</html>");
+        store.store("https://place.map.kakao.com/2", "kakao.detail", "<html>other</html>");
+
+        List<PageSnapshotStore.PageSnapshot> latest = store.latestByUrl("kakao.detail");
+        assertEquals(2, latest.size());
+        assertEquals("<html>v2</html>", store.load(latest.get(0).getHash()));
+    }
+
+    @Test
+    void pruneDropsExpiredEntriesAndUnreferencedObjects() throws Exception {
+        PageSnapshotStore store = new PageSnapshotStore(dir.toString(), true, new ObjectMapper());
+        store.store("https://place.map.kakao.com/1", "kakao.detail", "<html>old</html>");
+        store.store("https://place.map.kakao.com/2", "kakao.detail", "<html>shared</html>");
+        Thread.sleep(5);
+        Instant cutoff = Instant.now();
+        Thread.sleep(5);
+        store.store("https://place.map.kakao.com/3", "kakao.detail", "<html>shared</html>");
+
+        assertEquals(2, store.prune(cutoff));
+
+        List<PageSnapshotStore.PageSnapshot> latest = store.latestByUrl(null);
+        assertEquals(1, latest.size());
+        assertEquals("<html>shared</html>", store.load(latest.get(0).getHash()));
+        try (Stream<Path> files = Files.walk(dir.resolve("objects"))) {
+            assertEquals(1, files.filter(Files::isRegularFile).count()); // 남은 줄이 가리키는 본문만
+        }
+    }
+}
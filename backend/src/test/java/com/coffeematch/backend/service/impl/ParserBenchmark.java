@@ -0,0 +1,102 @@
+package com.coffeematch.backend.service.impl;
+
+import com.coffeematch.backend.dto.CrawlDataDto;
+import com.coffeematch.backend.dto.CrawlerCafeDetailDto;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 HTML 파서 JMH 벤치마크 (1 op = 페이지 1개 파싱)
+ * - 입력은 src/test/resources/fixtures 의 저장된 페이지 (네이버 블로그 검색, 카카오맵 검색/상세)
+ * - koreanDates: 리뷰 날짜 표기 여러 형식을 한 번씩 해석 (1 op = 표기 DATE_SAMPLES 개)
+ * - 처리량(ops/s)과 GC 프로파일러의 gc.alloc.rate.norm (페이지당 할당 바이트)을 함께 출력
+ * - 실행: mvn test-compile 후 test classpath 로 main 실행, 인자는 JMH 정규식 필터 (예: "naver")
+ * - 실제 파싱 메서드를 그대로 호출하므로 셀렉터 수정 전후 결과를 비교할 수 있음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String NAVER_SEARCH_URL = "https://search.naver.com/search.naver?where=blog&query=";
+    private static final String KAKAO_SEARCH_URL = "https://map.kakao.com/";
+    private static final String KAKAO_DETAIL_URL = "https://place.map.kakao.com/1000000";
+
+    private static final String[] DATE_SAMPLES = { "2024.01.10.", "24.1.3.", "2023년 12월 25일", "3월 1일",
+            "방금 전", "어제", "5분 전", "3시간전", "2일 전", "1주 전", "2달전", "6개월 전", "1년 전" };
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private String naverSearchHtml;
+    private String kakaoSearchHtml;
+    private String kakaoDetailHtml;
+
+    @Setup
+    public void loadFixtures() throws IOException {
+        naverSearchHtml = fixture("naver/blog_search.html");
+        kakaoSearchHtml = fixture("kakao/search_results.html");
+        kakaoDetailHtml = fixture("kakao/place_detail.html");
+    }
+
+    @Benchmark
+    public List<CrawlDataDto> naverBlogSearch() {
+        return NaverBlogCrawler.parse(Jsoup.parse(naverSearchHtml, NAVER_SEARCH_URL), 100);
+    }
+
+    @Benchmark
+    public List<KakaoPlaceParser.PlaceItem> kakaoSearchResults() {
+        return KakaoPlaceParser.parseSearchResults(kakaoSearchHtml, KAKAO_SEARCH_URL);
+    }
+
+    @Benchmark
+    public CrawlerCafeDetailDto kakaoPlaceDetail() {
+        return KakaoPlaceParser.parseDetail(kakaoDetailHtml, KAKAO_DETAIL_URL);
+    }
+
+    @Benchmark
+    public void koreanDates(Blackhole blackhole) {
+        for (String sample : DATE_SAMPLES) {
+            blackhole.consume(KoreanDateParser.parse(sample, NOW));
+        }
+    }
+
+    static String fixture(String name) throws IOException {
+        try (InputStream in = ParserBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IOException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ParserBenchmark.class.getSimpleName() + "." + (args.length > 0 ? args[0] : ""))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}